@@ -9,6 +9,7 @@ public class Constants {
     public static final String API_BASE_URL = "/api";
     public static final String API_BASE_URL_V1 = "/api/v1/";
     public static final String API_BASE_TODOS = "/todos";
+    public static final String API_BASE_BULK = "/bulk";
 
     public static final String API_BASE_DAYS = "/days";
 
@@ -17,7 +18,18 @@ public class Constants {
     public static final String API_BASE_ROUTINES_TODO_INSTANCES = "/routineTodoInstances";
 
     public static final String BASE_EXPERIENCE_URL = "/experience";
+    public static final String BASE_BATCH = "/batch";
+    public static final String BASE_MATRIX = "/matrix";
     public static final String BASE_READY = "/ready";
 
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     public static final String PARAM_READY = "ready";
+    public static final String PARAM_CURSOR = "cursor";
+    public static final String PARAM_LIMIT = "limit";
+
+    public static final String DEFAULT_PAGE_SIZE = "50";
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BULK_SIZE = 10_000;
 }
@@ -0,0 +1,29 @@
+package com.knighttodo.knighttodo.configuration;
+
+import io.opentelemetry.context.Context;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    public static final String EXPERIENCE_EXECUTOR = "experienceExecutor";
+
+    @Bean(name = EXPERIENCE_EXECUTOR)
+    public ThreadPoolTaskExecutor experienceExecutor(@Value("${experience.executor.core-pool-size:8}") int corePoolSize,
+                                                     @Value("${experience.executor.max-pool-size:32}") int maxPoolSize,
+                                                     @Value("${experience.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("experience-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setTaskDecorator(task -> Context.current().wrap(task));
+        return executor;
+    }
+}
@@ -1,6 +1,17 @@
 package com.knighttodo.knighttodo.configuration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knighttodo.knighttodo.gateway.experience.client.AdaptiveReadTimeout;
+import com.knighttodo.knighttodo.gateway.experience.client.AdaptiveTimeoutRequestFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -15,7 +26,9 @@ import springfox.documentation.spring.web.plugins.Docket;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableSwagger2
@@ -51,9 +64,62 @@ public class RestConfig {
         );
     }
 
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager experienceConnectionManager(
+            @Value("${experience.client.max-connections:200}") int maxConnections,
+            @Value("${experience.client.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${experience.client.validate-after-inactivity:2s}") Duration validateAfterInactivity) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity((int) validateAfterInactivity.toMillis());
+        return connectionManager;
+    }
+
+    @Bean
+    public MeterBinder experienceConnectionPoolMetrics(PoolingHttpClientConnectionManager experienceConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(experienceConnectionManager, "experience");
+    }
+
+    @Bean
+    public RequestConfig experienceRequestConfig(
+            @Value("${experience.client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${experience.client.read-timeout:3s}") Duration readTimeout,
+            @Value("${experience.client.pool-acquire-timeout:500ms}") Duration poolAcquireTimeout) {
+        return RequestConfig.custom()
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .setConnectionRequestTimeout((int) poolAcquireTimeout.toMillis())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient experienceHttpClient(
+            PoolingHttpClientConnectionManager experienceConnectionManager, RequestConfig experienceRequestConfig,
+            @Value("${experience.client.keep-alive:30s}") Duration keepAlive,
+            @Value("${experience.client.idle-eviction:30s}") Duration idleEviction) {
+        return HttpClients.custom()
+                .setConnectionManager(experienceConnectionManager)
+                .setDefaultRequestConfig(experienceRequestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive.toMillis()) : keepAlive.toMillis();
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(idleEviction.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient experienceHttpClient,
+                                     RequestConfig experienceRequestConfig, AdaptiveReadTimeout adaptiveReadTimeout) {
+        AdaptiveTimeoutRequestFactory requestFactory = new AdaptiveTimeoutRequestFactory(experienceHttpClient,
+                experienceRequestConfig, adaptiveReadTimeout);
+        RestTemplate restTemplate = restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(requestFactory.latencyRecorder())
+                .build();
         restTemplate.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
         return restTemplate;
     }
@@ -0,0 +1,34 @@
+package com.knighttodo.knighttodo.domain;
+
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ExperienceOutboxEntryVO {
+
+    private UUID id;
+
+    private UUID todoId;
+
+    private Scariness scariness;
+
+    private Hardness hardness;
+
+    private Instant createdAt;
+
+    private Instant nextAttemptAt;
+
+    private int attempts;
+
+    private String lastError;
+}
@@ -0,0 +1,40 @@
+package com.knighttodo.knighttodo.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.knighttodo.knighttodo.Constants.MAX_PAGE_SIZE;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PageVO<T> {
+
+    private List<T> content = new ArrayList<>();
+
+    private UUID next;
+
+    public static int boundedLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a keyset page from rows fetched with one extra element: when the extra row is present it is dropped and
+     * the id of the last returned row becomes the cursor for the next page.
+     */
+    public static <E, T> PageVO<T> of(List<E> rows, int limit, Function<E, UUID> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        UUID next = hasNext ? idExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new PageVO<>(pageRows.stream().map(mapper).collect(Collectors.toList()), next);
+    }
+}
@@ -1,4 +1,15 @@
 package com.knighttodo.knighttodo.domain;
 
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+
+import java.util.UUID;
+
 public interface TodoVO {
+
+    UUID getId();
+
+    Scariness getScariness();
+
+    Hardness getHardness();
 }
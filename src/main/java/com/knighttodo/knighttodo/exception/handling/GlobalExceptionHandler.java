@@ -9,11 +9,21 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import javax.validation.ConstraintViolationException;
 import java.util.Objects;
 
 @ControllerAdvice
 public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public final ResponseEntity<Object> handleConstraintViolationException(ConstraintViolationException ex,
+                                                                           WebRequest request) {
+        HttpStatus httpStatus = HttpStatus.BAD_REQUEST;
+        ApiErrorResponse errorResponse = new ApiErrorResponse(httpStatus.value(), httpStatus.getReasonPhrase(),
+                ex.getMessage());
+        return handleExceptionInternal(ex, errorResponse, new HttpHeaders(), httpStatus, request);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public final ResponseEntity<Object> handleCustomRuntimeException(RuntimeException ex, WebRequest request) {
         Throwable cause = ex.getCause() == null ? ex : ex.getCause();
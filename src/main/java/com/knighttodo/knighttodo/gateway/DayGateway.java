@@ -1,16 +1,15 @@
 package com.knighttodo.knighttodo.gateway;
 
 import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.DayRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -24,12 +23,16 @@ public class DayGateway {
         return dayMapper.toDayVO(savedDay);
     }
 
-    public List<DayVO> findAll() {
-        return dayRepository.findAll().stream().map(dayMapper::toDayVO).collect(Collectors.toList());
+    public PageVO<DayVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(dayRepository.findPage(cursor, limit), limit, Day::getId, dayMapper::toDayVO);
     }
 
     public Optional<DayVO> findById(UUID dayId) {
-        return dayRepository.findById(dayId).map(dayMapper::toDayVO);
+        return dayRepository.findWithDayTodosById(dayId).map(dayMapper::toDayVO);
+    }
+
+    public Optional<DayVO> findReferenceById(UUID dayId) {
+        return dayRepository.findById(dayId).map(dayMapper::toDayVOReference);
     }
 
     public void deleteById(UUID dayId) {
@@ -1,6 +1,7 @@
 package com.knighttodo.knighttodo.gateway;
 
 import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayTodoMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.DayTodoRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
@@ -24,12 +25,28 @@ public class DayTodoGateway {
         return dayTodoMapper.toTodoVO(savedDayTodo);
     }
 
-    public List<DayTodoVO> findAll() {
-        return dayTodoRepository.findAll().stream().map(dayTodoMapper::toTodoVO).collect(Collectors.toList());
+    public List<DayTodoVO> saveAll(List<DayTodoVO> dayTodoVOs) {
+        List<DayTodo> dayTodos = dayTodoVOs.stream().map(dayTodoMapper::toTodo).collect(Collectors.toList());
+        return dayTodoRepository.saveAll(dayTodos).stream().map(dayTodoMapper::toTodoVOWithDayReference)
+                .collect(Collectors.toList());
+    }
+
+    public PageVO<DayTodoVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(dayTodoRepository.findPage(cursor, limit), limit, DayTodo::getId,
+                dayTodoMapper::toTodoVOWithDayReference);
     }
 
     public Optional<DayTodoVO> findById(UUID todoId) {
-        return dayTodoRepository.findById(todoId).map(dayTodoMapper::toTodoVO);
+        return dayTodoRepository.findWithDayById(todoId).map(dayTodoMapper::toTodoVO);
+    }
+
+    public Optional<DayTodoVO> findByIdAndDayId(UUID todoId, UUID dayId) {
+        return dayTodoRepository.findByIdAndDayId(todoId, dayId).map(dayTodoMapper::toTodoVOWithDayReference);
+    }
+
+    public Optional<DayTodoVO> updateReadyIfChanged(UUID dayId, UUID todoId, boolean ready) {
+        return dayTodoRepository.updateReadyIfChanged(dayId, todoId, ready)
+                .map(dayTodoMapper::toTodoVOWithDayReference);
     }
 
     public void deleteById(UUID todoId) {
@@ -37,7 +54,7 @@ public class DayTodoGateway {
     }
 
     public List<DayTodoVO> findByDayId(UUID dayId) {
-        return dayTodoRepository.findByDayId(dayId).stream().map(dayTodoMapper::toTodoVO)
+        return dayTodoRepository.findByDayId(dayId).stream().map(dayTodoMapper::toTodoVOWithDayReference)
                 .collect(Collectors.toList());
     }
 }
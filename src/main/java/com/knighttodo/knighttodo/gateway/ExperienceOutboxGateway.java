@@ -0,0 +1,59 @@
+package com.knighttodo.knighttodo.gateway;
+
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.ExperienceOutboxEntryMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.ExperienceOutboxEntryRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.ExperienceOutboxEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class ExperienceOutboxGateway {
+
+    private final ExperienceOutboxEntryRepository experienceOutboxEntryRepository;
+    private final ExperienceOutboxEntryMapper experienceOutboxEntryMapper;
+
+    public ExperienceOutboxEntryVO save(ExperienceOutboxEntryVO experienceOutboxEntryVO) {
+        ExperienceOutboxEntry savedEntry = experienceOutboxEntryRepository
+                .save(experienceOutboxEntryMapper.toExperienceOutboxEntry(experienceOutboxEntryVO));
+        return experienceOutboxEntryMapper.toExperienceOutboxEntryVO(savedEntry);
+    }
+
+    public List<ExperienceOutboxEntryVO> findDueForUpdate(Instant now, int limit) {
+        return experienceOutboxEntryRepository.findDueForUpdateSkipLocked(now, limit).stream()
+                .map(experienceOutboxEntryMapper::toExperienceOutboxEntryVO)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<ExperienceOutboxEntryVO> findDueByIdForUpdate(UUID entryId, Instant now) {
+        return experienceOutboxEntryRepository.findDueByIdForUpdateSkipLocked(entryId, now)
+                .map(experienceOutboxEntryMapper::toExperienceOutboxEntryVO);
+    }
+
+    public int lease(List<UUID> entryIds, Instant leaseUntil) {
+        return experienceOutboxEntryRepository.lease(entryIds, leaseUntil);
+    }
+
+    public int reschedule(UUID entryId, Instant nextAttemptAt, String lastError) {
+        return experienceOutboxEntryRepository.reschedule(entryId, nextAttemptAt, lastError);
+    }
+
+    public int deleteById(UUID entryId) {
+        return experienceOutboxEntryRepository.deleteEntryById(entryId);
+    }
+
+    public long count() {
+        return experienceOutboxEntryRepository.count();
+    }
+
+    public Optional<Instant> findOldestCreatedAt() {
+        return experienceOutboxEntryRepository.findOldestCreatedAt();
+    }
+}
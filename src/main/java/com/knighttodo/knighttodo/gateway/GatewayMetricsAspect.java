@@ -0,0 +1,66 @@
+package com.knighttodo.knighttodo.gateway;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Times every public gateway method as {@code gateway.calls}, tagged with the entity (the gateway name without its
+ * {@code Gateway} suffix), the operation (the method name) and the exception thrown, if any. Calls answering with a
+ * {@link CompletionStage} are timed until the stage completes.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class GatewayMetricsAspect {
+
+    private static final String METRIC_NAME = "gateway.calls";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && (within(com.knighttodo.knighttodo.gateway..*Gateway) "
+            + "|| within(com.knighttodo.knighttodo.gateway..*GatewayImpl))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String entity = entity(ClassUtils.getUserClass(joinPoint.getTarget()));
+        String operation = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            stop(sample, entity, operation, ex);
+            throw ex;
+        }
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((value, ex) -> stop(sample, entity, operation,
+                    ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+        } else {
+            stop(sample, entity, operation, null);
+        }
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String entity, String operation, Throwable ex) {
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("Time spent in gateway calls")
+                .tag("entity", entity)
+                .tag("operation", operation)
+                .tag("exception", ex == null ? NO_EXCEPTION : ex.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+
+    private static String entity(Class<?> gatewayClass) {
+        String name = gatewayClass.getSimpleName();
+        return name.substring(0, name.lastIndexOf("Gateway"));
+    }
+}
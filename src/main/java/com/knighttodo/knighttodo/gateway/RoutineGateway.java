@@ -1,16 +1,16 @@
 package com.knighttodo.knighttodo.gateway;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineVO;
+import com.knighttodo.knighttodo.gateway.cache.RoutineTemplateCache;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -18,22 +18,26 @@ public class RoutineGateway {
 
     private final RoutineRepository routineRepository;
     private final RoutineMapper routineMapper;
+    private final RoutineTemplateCache routineTemplateCache;
 
     public RoutineVO save(RoutineVO routineVO) {
         Routine savedRoutine = routineRepository.save(routineMapper.toRoutine(routineVO));
+        routineTemplateCache.invalidate(savedRoutine.getId());
         return routineMapper.toRoutineVO(savedRoutine);
     }
 
-    public List<RoutineVO> findAll() {
-        return routineRepository.findAll().stream().map(routineMapper::toRoutineVO).collect(Collectors.toList());
+    public PageVO<RoutineVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(routineRepository.findPage(cursor, limit), limit, Routine::getId, routineMapper::toRoutineVO);
     }
 
     public Optional<RoutineVO> findById(UUID routineId) {
-        return routineRepository.findById(routineId).map(routineMapper::toRoutineVO);
+        return routineTemplateCache.findRoutine(routineId,
+                id -> routineRepository.findWithRoutineTodosById(id).map(routineMapper::toRoutineVO));
     }
 
     public void deleteById(UUID routineId) {
         routineRepository.deleteById(routineId);
+        routineTemplateCache.invalidate(routineId);
     }
 
     public void deleteAllRoutineInstancesByRoutineId(UUID routineId) {
@@ -42,5 +46,6 @@ public class RoutineGateway {
 
     public void deleteAllRoutineTodosByRoutineId(UUID routineId) {
         routineRepository.deleteAllRoutineTodosByRoutineId(routineId);
+        routineTemplateCache.invalidate(routineId);
     }
 }
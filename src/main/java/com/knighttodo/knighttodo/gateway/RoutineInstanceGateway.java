@@ -1,5 +1,6 @@
 package com.knighttodo.knighttodo.gateway;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineInstanceMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineInstanceRepository;
@@ -7,10 +8,8 @@ import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstanc
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
@@ -21,15 +20,17 @@ public class RoutineInstanceGateway {
 
     public RoutineInstanceVO save(RoutineInstanceVO routineInstanceVO) {
         RoutineInstance savedRoutineInstance = routineInstanceRepository.save(routineInstanceMapper.toRoutineInstance(routineInstanceVO));
-        return routineInstanceMapper.toRoutineInstanceVO(savedRoutineInstance);
+        return routineInstanceMapper.toRoutineInstanceVOWithReferences(savedRoutineInstance);
     }
 
-    public List<RoutineInstanceVO> findAll() {
-        return routineInstanceRepository.findAll().stream().map(routineInstanceMapper::toRoutineInstanceVO).collect(Collectors.toList());
+    public PageVO<RoutineInstanceVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(routineInstanceRepository.findPage(cursor, limit), limit, RoutineInstance::getId,
+                routineInstanceMapper::toRoutineInstanceVOWithReferences);
     }
 
     public Optional<RoutineInstanceVO> findById(UUID routineId) {
-        return routineInstanceRepository.findById(routineId).map(routineInstanceMapper::toRoutineInstanceVO);
+        return routineInstanceRepository.findWithRoutineTodoInstancesById(routineId)
+                .map(routineInstanceMapper::toRoutineInstanceVO);
     }
 
     public void deleteById(UUID routineId) {
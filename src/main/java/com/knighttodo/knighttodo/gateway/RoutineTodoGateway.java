@@ -1,6 +1,8 @@
 package com.knighttodo.knighttodo.gateway;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.gateway.cache.RoutineTemplateCache;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineTodoMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodo;
@@ -18,14 +20,22 @@ public class RoutineTodoGateway {
 
     private final RoutineTodoRepository routineTodoRepository;
     private final RoutineTodoMapper routineTodoMapper;
+    private final RoutineTemplateCache routineTemplateCache;
 
     public RoutineTodoVO save(RoutineTodoVO routineTodoVO) {
         RoutineTodo savedRoutineTodo = routineTodoRepository.save(routineTodoMapper.toRoutineTodo(routineTodoVO));
+        if (routineTodoVO.getRoutineVO() != null && routineTodoVO.getRoutineVO().getId() != null) {
+            routineTemplateCache.invalidate(routineTodoVO.getRoutineVO().getId());
+        } else {
+            // updates come from findById, which doesn't carry the routine
+            routineTemplateCache.invalidateAll();
+        }
         return routineTodoMapper.toRoutineTodoVO(savedRoutineTodo);
     }
 
-    public List<RoutineTodoVO> findAll() {
-        return routineTodoRepository.findAll().stream().map(routineTodoMapper::toRoutineTodoVO).collect(Collectors.toList());
+    public PageVO<RoutineTodoVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(routineTodoRepository.findPage(cursor, limit), limit, RoutineTodo::getId,
+                routineTodoMapper::toRoutineTodoVO);
     }
 
     public Optional<RoutineTodoVO> findById(UUID routineTodoId) {
@@ -34,14 +44,21 @@ public class RoutineTodoGateway {
 
     public void deleteById(UUID routineTodoId) {
         routineTodoRepository.deleteById(routineTodoId);
+        routineTemplateCache.invalidateAll();
     }
 
     public List<RoutineTodoVO> findByRoutineId(UUID routineId) {
-        return routineTodoRepository.findByRoutineId(routineId).stream().map(routineTodoMapper::toRoutineTodoVO)
-                .collect(Collectors.toList());
+        return routineTemplateCache.findRoutineTodos(routineId, id -> routineTodoRepository.findByRoutineId(id).stream()
+                .map(routineTodoMapper::toRoutineTodoVO)
+                .collect(Collectors.toList()));
     }
 
     public void deleteAllRoutineTodoInstancesByRoutineTodoId(UUID routineTodoId) {
         routineTodoRepository.deleteAllRoutineTodoInstancesByRoutineTodoId(routineTodoId);
     }
+
+    public int updateNotReadyRoutineTodoInstances(RoutineTodoVO routineTodoVO) {
+        return routineTodoRepository.updateNotReadyRoutineTodoInstancesByRoutineTodoId(routineTodoVO.getId(),
+                routineTodoVO.getRoutineTodoName(), routineTodoVO.getHardness(), routineTodoVO.getScariness());
+    }
 }
@@ -1,5 +1,6 @@
 package com.knighttodo.knighttodo.gateway;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineTodoInstanceMapper;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoInstanceRepository;
@@ -25,13 +26,26 @@ public class RoutineTodoInstanceGateway {
         return routineTodoInstanceMapper.toRoutineTodoInstanceVO(savedRoutineTodoInstance);
     }
 
-    public List<RoutineTodoInstanceVO> findAll() {
-        return routineTodoInstanceRepository.findAll().stream()
-                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVO).collect(Collectors.toList());
+    public PageVO<RoutineTodoInstanceVO> findAll(UUID cursor, int limit) {
+        return PageVO.of(routineTodoInstanceRepository.findPage(cursor, limit), limit, RoutineTodoInstance::getId,
+                routineTodoInstanceMapper::toRoutineTodoInstanceVOWithReferences);
     }
 
     public Optional<RoutineTodoInstanceVO> findById(UUID routineTodoInstanceId) {
-        return routineTodoInstanceRepository.findById(routineTodoInstanceId).map(routineTodoInstanceMapper::toRoutineTodoInstanceVO);
+        return routineTodoInstanceRepository.findWithRoutineTodoById(routineTodoInstanceId)
+                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVO);
+    }
+
+    public Optional<RoutineTodoInstanceVO> findByIdAndRoutineInstanceId(UUID routineTodoInstanceId,
+                                                                        UUID routineInstanceId) {
+        return routineTodoInstanceRepository.findByIdAndRoutineInstanceId(routineTodoInstanceId, routineInstanceId)
+                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVOWithReferences);
+    }
+
+    public Optional<RoutineTodoInstanceVO> updateReadyIfChanged(UUID routineInstanceId, UUID routineTodoInstanceId,
+                                                                boolean ready) {
+        return routineTodoInstanceRepository.updateReadyIfChanged(routineInstanceId, routineTodoInstanceId, ready)
+                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVOWithReferences);
     }
 
     public void deleteById(UUID routineTodoId) {
@@ -40,7 +54,7 @@ public class RoutineTodoInstanceGateway {
 
     public List<RoutineTodoInstanceVO> findByRoutineId(UUID routineInstanceId) {
         return routineTodoInstanceRepository.findByRoutineInstanceId(routineInstanceId).stream()
-                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVO)
+                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVOWithReferences)
                 .collect(Collectors.toList());
     }
 }
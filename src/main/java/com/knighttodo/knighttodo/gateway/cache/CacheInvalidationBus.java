@@ -0,0 +1,65 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Tells every node that an entity changed, so they can drop it from their {@link LocalCache}s. Notifications are
+ * sent with {@code pg_notify} on the connection of the current transaction, which makes Postgres deliver them only once
+ * the write commits, and not at all when it rolls back. Identical notifications of one transaction are delivered once.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    static final String ALL = "*";
+    private static final char SEPARATOR = ':';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String channel;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${cache.invalidation.channel:knight_todo_cache}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    public void publish(String entityType, UUID id) {
+        notify(entityType + SEPARATOR + id);
+    }
+
+    public void publishAll(String entityType) {
+        notify(entityType + SEPARATOR + ALL);
+    }
+
+    static void dispatch(String payload, Iterable<LocalCache> localCaches) {
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cache invalidation without entity type: " + payload);
+        }
+        String entityType = payload.substring(0, separator);
+        String key = payload.substring(separator + 1);
+        UUID id = ALL.equals(key) ? null : UUID.fromString(key);
+        for (LocalCache localCache : localCaches) {
+            if (!localCache.entityType().equals(entityType)) {
+                continue;
+            }
+            if (id == null) {
+                localCache.evictAllLocally();
+            } else {
+                localCache.evictLocally(id);
+            }
+        }
+    }
+
+    private void notify(String payload) {
+        if (enabled) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Listens on {@code cache.invalidation.channel} over a connection of its own, outside the pool, and evicts the
+ * entries named by {@link CacheInvalidationBus} notifications from this node's {@link LocalCache}s. Postgres doesn't
+ * replay notifications sent while nobody listened, so each time the listener (re)connects it flushes all local caches.
+ * A lost connection is retried every {@code cache.invalidation.reconnect-delay}; an idle one is checked every
+ * {@code cache.invalidation.heartbeat-interval}, so a silently dropped connection is noticed too.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", matchIfMissing = true)
+public class CacheInvalidationListener {
+
+    private final List<LocalCache> localCaches;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration reconnectDelay;
+    private final Counter notifications;
+    private final Counter flushes;
+
+    private final ExecutorService listener = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running = true;
+    private volatile Connection connection;
+
+    public CacheInvalidationListener(List<LocalCache> localCaches, DataSourceProperties dataSourceProperties,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.invalidation.channel:knight_todo_cache}") String channel,
+                                     @Value("${cache.invalidation.poll-interval:500ms}") Duration pollInterval,
+                                     @Value("${cache.invalidation.heartbeat-interval:30s}") Duration heartbeatInterval,
+                                     @Value("${cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.localCaches = localCaches;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.notifications = Counter.builder("cache.invalidation.notifications")
+                .description("Cache invalidations received from any node")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("cache.invalidation.flushes")
+                .description("Local cache flushes after the invalidation listener (re)connected")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        listener.execute(this::listen);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        listener.shutdownNow();
+        close(connection);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection listening = connect()) {
+                connection = listening;
+                flushLocalCaches();
+                receive(listening);
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting in {}", reconnectDelay,
+                            ex);
+                    sleep(reconnectDelay);
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection listening = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = listening.createStatement()) {
+            statement.execute("LISTEN \"" + channel + "\"");
+        } catch (SQLException ex) {
+            close(listening);
+            throw ex;
+        }
+        log.info("Listening for cache invalidations on {}", channel);
+        return listening;
+    }
+
+    private void receive(Connection listening) throws SQLException {
+        PGConnection pgConnection = listening.unwrap(PGConnection.class);
+        Instant lastHeard = Instant.now();
+        while (running) {
+            PGNotification[] received = pgConnection.getNotifications((int) pollInterval.toMillis());
+            if (received != null && received.length > 0) {
+                lastHeard = Instant.now();
+                for (PGNotification notification : received) {
+                    apply(notification.getParameter());
+                }
+            } else if (Instant.now().isAfter(lastHeard.plus(heartbeatInterval))) {
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastHeard = Instant.now();
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        notifications.increment();
+        try {
+            CacheInvalidationBus.dispatch(payload, localCaches);
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed cache invalidation {}", payload, ex);
+        }
+    }
+
+    private void flushLocalCaches() {
+        flushes.increment();
+        localCaches.forEach(LocalCache::evictAllLocally);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void close(Connection listening) {
+        if (listening == null) {
+            return;
+        }
+        try {
+            listening.close();
+        } catch (SQLException ex) {
+            log.debug("Cache invalidation listener connection didn't close cleanly", ex);
+        }
+    }
+}
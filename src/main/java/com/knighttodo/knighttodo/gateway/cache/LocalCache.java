@@ -0,0 +1,15 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import java.util.UUID;
+
+/**
+ * An in-process cache that {@link CacheInvalidationListener} evicts when another node writes the entities it holds.
+ */
+public interface LocalCache {
+
+    String entityType();
+
+    void evictLocally(UUID id);
+
+    void evictAllLocally();
+}
@@ -0,0 +1,40 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.domain.RoutineVO;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a routine template with its todos as it is kept in {@link RoutineTemplateCache}.
+ */
+@Value
+public class RoutineSnapshot {
+
+    UUID id;
+    String name;
+    Hardness hardness;
+    Scariness scariness;
+    List<RoutineTodoSnapshot> routineTodos;
+
+    public static RoutineSnapshot of(RoutineVO routineVO) {
+        List<RoutineTodoVO> routineTodoVOs = routineVO.getRoutineTodos();
+        return new RoutineSnapshot(routineVO.getId(), routineVO.getName(), routineVO.getHardness(),
+                routineVO.getScariness(),
+                routineTodoVOs == null ? null : RoutineTemplateCache.snapshots(routineTodoVOs));
+    }
+
+    public RoutineVO toRoutineVO() {
+        return RoutineVO.builder()
+                .id(id)
+                .name(name)
+                .hardness(hardness)
+                .scariness(scariness)
+                .routineTodos(routineTodos == null ? null : RoutineTemplateCache.routineTodoVOs(routineTodos))
+                .build();
+    }
+}
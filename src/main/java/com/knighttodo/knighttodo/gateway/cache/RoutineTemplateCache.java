@@ -0,0 +1,157 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.domain.RoutineVO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process near-cache for routine templates and their todos, keyed by routine id. Entries are immutable snapshots
+ * and every read hands out fresh value objects, so callers are free to change what they get back.
+ *
+ * <p>Writes call {@link #invalidate(UUID)} or {@link #invalidateAll()}: the entries are evicted at once and again
+ * when the writing transaction completes, and until then reads of a written routine in that transaction skip the
+ * cache. A read that loads concurrently with the commit holds the entry's lock, so the eviction after completion
+ * waits for it and removes what it loaded. Other nodes hear about the write through {@link CacheInvalidationBus}.
+ * Entries also expire after {@code routine.cache.ttl} and the cache holds at most {@code routine.cache.max-size} of
+ * them; hit and miss counts are published as {@code cache.gets}.
+ */
+@Component
+public class RoutineTemplateCache implements LocalCache {
+
+    public static final String ENTITY_TYPE = "routine";
+
+    private static final Object ALL_ROUTINES = new Object();
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<UUID, RoutineSnapshot> routines;
+    private final Cache<UUID, List<RoutineTodoSnapshot>> routineTodos;
+
+    public RoutineTemplateCache(CacheInvalidationBus cacheInvalidationBus, MeterRegistry meterRegistry,
+                                @Value("${routine.cache.max-size:10000}") long maxSize,
+                                @Value("${routine.cache.ttl:5m}") Duration ttl) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.routines = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.routineTodos = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, routines, "routines");
+        CaffeineCacheMetrics.monitor(meterRegistry, routineTodos, "routineTodos");
+    }
+
+    public Optional<RoutineVO> findRoutine(UUID routineId, Function<UUID, Optional<RoutineVO>> loader) {
+        if (isWrittenInCurrentTransaction(routineId)) {
+            return loader.apply(routineId);
+        }
+        RoutineSnapshot snapshot = routines.get(routineId,
+                id -> loader.apply(id).map(RoutineSnapshot::of).orElse(null));
+        return Optional.ofNullable(snapshot).map(RoutineSnapshot::toRoutineVO);
+    }
+
+    public List<RoutineTodoVO> findRoutineTodos(UUID routineId, Function<UUID, List<RoutineTodoVO>> loader) {
+        if (isWrittenInCurrentTransaction(routineId)) {
+            return loader.apply(routineId);
+        }
+        return routineTodoVOs(routineTodos.get(routineId, id -> snapshots(loader.apply(id))));
+    }
+
+    public void invalidate(UUID routineId) {
+        evict(routineId);
+        evictAfterCompletion(routineId);
+        cacheInvalidationBus.publish(ENTITY_TYPE, routineId);
+    }
+
+    public void invalidateAll() {
+        evict(ALL_ROUTINES);
+        evictAfterCompletion(ALL_ROUTINES);
+        cacheInvalidationBus.publishAll(ENTITY_TYPE);
+    }
+
+    @Override
+    public String entityType() {
+        return ENTITY_TYPE;
+    }
+
+    @Override
+    public void evictLocally(UUID routineId) {
+        evict(routineId);
+    }
+
+    @Override
+    public void evictAllLocally() {
+        evict(ALL_ROUTINES);
+    }
+
+    static List<RoutineTodoSnapshot> snapshots(List<RoutineTodoVO> routineTodoVOs) {
+        return routineTodoVOs.stream().map(RoutineTodoSnapshot::of).collect(Collectors.toUnmodifiableList());
+    }
+
+    static List<RoutineTodoVO> routineTodoVOs(List<RoutineTodoSnapshot> snapshots) {
+        return snapshots.stream()
+                .map(RoutineTodoSnapshot::toRoutineTodoVO)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private void evict(Object key) {
+        if (key == ALL_ROUTINES) {
+            routines.invalidateAll();
+            routineTodos.invalidateAll();
+        } else {
+            routines.invalidate(key);
+            routineTodos.invalidate(key);
+        }
+    }
+
+    private void evictAfterCompletion(Object key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Set<Object> writtenKeys = writtenKeys();
+        if (writtenKeys == null) {
+            Set<Object> keys = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoutineTemplateCache.this);
+                    keys.forEach(RoutineTemplateCache.this::evict);
+                }
+            });
+            writtenKeys = keys;
+        }
+        writtenKeys.add(key);
+    }
+
+    private boolean isWrittenInCurrentTransaction(UUID routineId) {
+        Set<Object> writtenKeys = writtenKeys();
+        return writtenKeys != null && (writtenKeys.contains(ALL_ROUTINES) || writtenKeys.contains(routineId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Object> writtenKeys() {
+        return (Set<Object>) TransactionSynchronizationManager.getResource(this);
+    }
+}
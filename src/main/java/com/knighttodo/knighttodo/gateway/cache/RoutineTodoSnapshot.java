@@ -0,0 +1,36 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of a routine todo template as it is kept in {@link RoutineTemplateCache}.
+ */
+@Value
+public class RoutineTodoSnapshot {
+
+    UUID id;
+    String routineTodoName;
+    Scariness scariness;
+    Hardness hardness;
+    boolean ready;
+
+    public static RoutineTodoSnapshot of(RoutineTodoVO routineTodoVO) {
+        return new RoutineTodoSnapshot(routineTodoVO.getId(), routineTodoVO.getRoutineTodoName(),
+                routineTodoVO.getScariness(), routineTodoVO.getHardness(), routineTodoVO.isReady());
+    }
+
+    public RoutineTodoVO toRoutineTodoVO() {
+        return RoutineTodoVO.builder()
+                .id(id)
+                .routineTodoName(routineTodoName)
+                .scariness(scariness)
+                .hardness(hardness)
+                .ready(ready)
+                .build();
+    }
+}
@@ -0,0 +1,206 @@
+package com.knighttodo.knighttodo.gateway.experience;
+
+import com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient;
+import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceResponse;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces experience requests into batch calls. A batch is sent once {@code experience.batch.window} has passed
+ * since its first request or as soon as it holds {@code experience.batch.max-size} requests, whichever comes first.
+ * Responses are handed back to the callers by todo id. When the experience service has no batch endpoint, requests
+ * are sent one by one until {@code experience.batch.recheck-interval} passes and batching is tried again. The
+ * batcher thread only collects and schedules; calls are made by a pool of {@code experience.batch.senders} threads,
+ * sized like the experience bulkhead, so one slow batch doesn't hold back the next.
+ */
+@Slf4j
+@Component
+public class ExperienceBatcher {
+
+    private final ExperienceClient experienceClient;
+    private final Duration window;
+    private final int maxSize;
+    private final Duration recheckInterval;
+
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "experience-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<PendingRequest> pending = new ArrayList<>();
+    private boolean flushScheduled;
+    private volatile Instant batchUnsupportedUntil = Instant.MIN;
+
+    public ExperienceBatcher(ExperienceClient experienceClient,
+                             @Value("${experience.batch.window:10ms}") Duration window,
+                             @Value("${experience.batch.max-size:50}") int maxSize,
+                             @Value("${experience.batch.recheck-interval:10m}") Duration recheckInterval,
+                             @Value("${experience.batch.senders:40}") int senders,
+                             @Value("${experience.batch.sender-queue-capacity:1000}") int senderQueueCapacity) {
+        this.experienceClient = experienceClient;
+        this.window = window;
+        this.maxSize = maxSize;
+        this.recheckInterval = recheckInterval;
+        this.senders = new ThreadPoolExecutor(senders, senders, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(senderQueueCapacity), new ThreadFactory() {
+
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "experience-batch-sender-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        this.senders.allowCoreThreadTimeOut(true);
+    }
+
+    public CompletableFuture<ExperienceResponse> submit(ExperienceRequest experienceRequest) {
+        if (Instant.now().isBefore(batchUnsupportedUntil)) {
+            return sendSingle(experienceRequest);
+        }
+
+        PendingRequest pendingRequest = new PendingRequest(experienceRequest);
+        synchronized (pending) {
+            pending.add(pendingRequest);
+            if (pending.size() >= maxSize) {
+                flusher.execute(this::flush);
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flusher.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return pendingRequest.response;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        senders.shutdownNow();
+        synchronized (pending) {
+            pending.forEach(pendingRequest -> pendingRequest.response
+                    .completeExceptionally(new IllegalStateException("Experience batcher is shutting down")));
+            pending.clear();
+        }
+    }
+
+    private void flush() {
+        List<PendingRequest> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRequest> head = pending.subList(0, Math.min(pending.size(), maxSize));
+            batch = new ArrayList<>(head);
+            head.clear();
+            flushScheduled = !pending.isEmpty();
+            if (flushScheduled) {
+                flusher.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(List<PendingRequest> batch) {
+        try {
+            senders.execute(() -> send(batch));
+        } catch (RejectedExecutionException ex) {
+            batch.forEach(pendingRequest -> pendingRequest.response.completeExceptionally(ex));
+        }
+    }
+
+    private void send(List<PendingRequest> batch) {
+        if (batch.size() == 1) {
+            sendSingle(batch.get(0));
+            return;
+        }
+
+        List<ExperienceRequest> requests = batch.stream().map(pendingRequest -> pendingRequest.request)
+                .collect(Collectors.toList());
+        Optional<List<ExperienceResponse>> responses;
+        // The batch is traced as part of the request that opened it; the others only share its outcome.
+        try (Scope scope = batch.get(0).context.makeCurrent()) {
+            responses = experienceClient.calculateExperiences(requests);
+        } catch (RuntimeException ex) {
+            batch.forEach(pendingRequest -> pendingRequest.response.completeExceptionally(ex));
+            return;
+        }
+
+        if (responses.isEmpty()) {
+            log.warn("Experience service has no batch endpoint, sending requests one by one for {}", recheckInterval);
+            batchUnsupportedUntil = Instant.now().plus(recheckInterval);
+            batch.forEach(pendingRequest -> dispatch(List.of(pendingRequest)));
+            return;
+        }
+
+        Map<UUID, ExperienceResponse> responsesByTodoId = responses.get().stream()
+                .collect(Collectors.toMap(ExperienceResponse::getTodoId, Function.identity(), (first, second) -> first));
+        for (PendingRequest pendingRequest : batch) {
+            ExperienceResponse response = responsesByTodoId.get(pendingRequest.request.getTodoId());
+            if (response == null) {
+                pendingRequest.response.completeExceptionally(new IllegalStateException(
+                        "Experience service returned no result for todo " + pendingRequest.request.getTodoId()));
+            } else {
+                pendingRequest.response.complete(response);
+            }
+        }
+    }
+
+    private void sendSingle(PendingRequest pendingRequest) {
+        try (Scope scope = pendingRequest.context.makeCurrent()) {
+            sendSingle(pendingRequest.request).whenComplete(pendingRequest::complete);
+        }
+    }
+
+    private CompletableFuture<ExperienceResponse> sendSingle(ExperienceRequest experienceRequest) {
+        try {
+            return CompletableFuture.completedFuture(experienceClient.calculateExperience(experienceRequest));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingRequest {
+
+        private final ExperienceRequest request;
+        private final CompletableFuture<ExperienceResponse> response = new CompletableFuture<>();
+        private final Context context = Context.current();
+
+        private void complete(ExperienceResponse experienceResponse, Throwable ex) {
+            if (ex == null) {
+                response.complete(experienceResponse);
+            } else {
+                response.completeExceptionally(ex);
+            }
+        }
+    }
+}
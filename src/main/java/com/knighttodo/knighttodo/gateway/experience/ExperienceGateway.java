@@ -1,11 +1,10 @@
 package com.knighttodo.knighttodo.gateway.experience;
 
-import com.knighttodo.knighttodo.domain.DayTodoVO;
-import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
 
-public interface ExperienceGateway {
+import java.util.concurrent.CompletableFuture;
 
-    DayTodoVO calculateExperience(DayTodoVO dayTodoVO);
+public interface ExperienceGateway {
 
-    RoutineTodoInstanceVO calculateExperience(RoutineTodoInstanceVO routineTodoInstanceVO);
+    CompletableFuture<Integer> calculateExperience(ExperienceOutboxEntryVO experienceOutboxEntryVO);
 }
@@ -1,40 +1,37 @@
 package com.knighttodo.knighttodo.gateway.experience;
 
-import com.knighttodo.knighttodo.domain.DayTodoVO;
-import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
-import com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient;
-import com.knighttodo.knighttodo.gateway.experience.mapper.DayTodoVOMapper;
-import com.knighttodo.knighttodo.gateway.experience.mapper.RoutineTodoInstanceVOMapper;
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.gateway.experience.mapper.ExperienceOutboxEntryVOMapper;
 import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
-import com.knighttodo.knighttodo.gateway.experience.response.ExperienceResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
 public class ExperienceGatewayImpl implements ExperienceGateway {
 
-    private final ExperienceClient experienceClient;
-    private final DayTodoVOMapper dayTodoVOMapper;
-    private final RoutineTodoInstanceVOMapper routineTodoInstanceVOMapper;
+    private final ExperienceBatcher experienceBatcher;
+    private final ExperienceMatrix experienceMatrix;
+    private final ExperienceOutboxEntryVOMapper experienceOutboxEntryVOMapper;
 
     @Override
-    public DayTodoVO calculateExperience(DayTodoVO dayTodoVO) {
-        ExperienceRequest experienceRequest = dayTodoVOMapper.DayTodoToExperienceRequest(dayTodoVO);
-        experienceRequest.setUserId(UUID.randomUUID());
-        ExperienceResponse experienceResponse = experienceClient.calculateExperience(experienceRequest);
-        dayTodoVO.setExperience(experienceResponse.getExperience());
-        return dayTodoVO;
-    }
+    public CompletableFuture<Integer> calculateExperience(ExperienceOutboxEntryVO experienceOutboxEntryVO) {
+        OptionalInt localExperience = experienceMatrix
+                .lookup(experienceOutboxEntryVO.getHardness(), experienceOutboxEntryVO.getScariness());
+        if (localExperience.isPresent()) {
+            return CompletableFuture.completedFuture(localExperience.getAsInt());
+        }
 
-    @Override
-    public RoutineTodoInstanceVO calculateExperience(RoutineTodoInstanceVO routineTodoInstanceVO) {
-        ExperienceRequest experienceRequest = routineTodoInstanceVOMapper.routineTodoInstanceToExperienceRequest(routineTodoInstanceVO);
+        ExperienceRequest experienceRequest = experienceOutboxEntryVOMapper
+                .experienceOutboxEntryToExperienceRequest(experienceOutboxEntryVO);
         experienceRequest.setUserId(UUID.randomUUID());
-        ExperienceResponse experienceResponse = experienceClient.calculateExperience(experienceRequest);
-        routineTodoInstanceVO.setExperience(experienceResponse.getExperience());
-        return routineTodoInstanceVO;
+        return experienceBatcher.submit(experienceRequest).thenApply(experienceResponse -> {
+            experienceMatrix.observeVersion(experienceResponse.getMatrixVersion());
+            return experienceResponse.getExperience();
+        });
     }
 }
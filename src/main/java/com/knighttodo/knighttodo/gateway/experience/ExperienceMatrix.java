@@ -0,0 +1,160 @@
+package com.knighttodo.knighttodo.gateway.experience;
+
+import com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceMatrixCellResponse;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceMatrixResponse;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process copy of the experience service's hardness by scariness table. Experience depends on nothing else, so
+ * once the table is loaded most calls can be answered without a round trip. The table is refreshed every
+ * {@code experience.matrix.refresh-interval} and as soon as a remote response reports a different version. Lookups
+ * miss, and callers go remote, while the table is missing, older than {@code experience.matrix.max-staleness} or
+ * behind the last version seen.
+ */
+@Slf4j
+@Component
+public class ExperienceMatrix {
+
+    private static final int SCARINESS_COUNT = Scariness.values().length;
+    private static final int UNKNOWN = -1;
+
+    private final ExperienceClient experienceClient;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "experience-matrix-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+    private volatile Long latestVersion;
+
+    public ExperienceMatrix(ExperienceClient experienceClient, MeterRegistry meterRegistry,
+                            @Value("${experience.matrix.enabled:false}") boolean enabled,
+                            @Value("${experience.matrix.max-staleness:5m}") Duration maxStaleness) {
+        this.experienceClient = experienceClient;
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+        this.hits = Counter.builder("experience.matrix.lookups").tag("result", "hit")
+                .description("Experience calculations answered from the local matrix")
+                .register(meterRegistry);
+        this.misses = Counter.builder("experience.matrix.lookups").tag("result", "miss")
+                .description("Experience calculations the local matrix could not answer")
+                .register(meterRegistry);
+    }
+
+    public OptionalInt lookup(Hardness hardness, Scariness scariness) {
+        if (!enabled) {
+            return OptionalInt.empty();
+        }
+        Snapshot current = snapshot;
+        if (current == null || hardness == null || scariness == null || !current.isUsable(latestVersion)) {
+            misses.increment();
+            return OptionalInt.empty();
+        }
+        int experience = current.experience[index(hardness, scariness)];
+        if (experience == UNKNOWN) {
+            misses.increment();
+            return OptionalInt.empty();
+        }
+        hits.increment();
+        return OptionalInt.of(experience);
+    }
+
+    /**
+     * Records the table version a remote response was calculated with and refreshes in the background when it's
+     * not the one held locally.
+     */
+    public void observeVersion(Long version) {
+        if (!enabled || version == null) {
+            return;
+        }
+        latestVersion = version;
+        Snapshot current = snapshot;
+        if (current == null || current.version != version) {
+            refresher.execute(this::refresh);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${experience.matrix.refresh-interval:60000}")
+    public void refresh() {
+        if (!enabled || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Snapshot current = snapshot;
+            experienceClient.fetchExperienceMatrix(current == null ? null : current.version)
+                    .ifPresentOrElse(this::replace, () -> snapshot = current == null ? null : current.confirmed());
+        } catch (RuntimeException ex) {
+            log.warn("Could not refresh the experience matrix, keeping version {}",
+                    snapshot == null ? null : snapshot.version, ex);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private void replace(ExperienceMatrixResponse response) {
+        int[] experience = new int[Hardness.values().length * SCARINESS_COUNT];
+        Arrays.fill(experience, UNKNOWN);
+        for (ExperienceMatrixCellResponse cell : response.getCells()) {
+            experience[index(cell.getHardness(), cell.getScariness())] = cell.getExperience();
+        }
+        snapshot = new Snapshot(response.getVersion(), experience, Instant.now());
+        latestVersion = response.getVersion();
+        log.info("Loaded experience matrix version {}", response.getVersion());
+    }
+
+    private static int index(Hardness hardness, Scariness scariness) {
+        return hardness.ordinal() * SCARINESS_COUNT + scariness.ordinal();
+    }
+
+    private final class Snapshot {
+
+        private final long version;
+        private final int[] experience;
+        private final Instant confirmedAt;
+
+        private Snapshot(long version, int[] experience, Instant confirmedAt) {
+            this.version = version;
+            this.experience = experience;
+            this.confirmedAt = confirmedAt;
+        }
+
+        private Snapshot confirmed() {
+            return new Snapshot(version, experience, Instant.now());
+        }
+
+        private boolean isUsable(Long latestVersion) {
+            return (latestVersion == null || Objects.equals(latestVersion, version))
+                    && confirmedAt.plus(maxStaleness).isAfter(Instant.now());
+        }
+    }
+}
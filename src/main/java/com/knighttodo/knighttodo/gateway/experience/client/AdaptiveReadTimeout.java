@@ -0,0 +1,98 @@
+package com.knighttodo.knighttodo.gateway.experience.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read timeout for experience calls derived from their observed latency. Every endpoint gets a timer publishing
+ * {@code experience.client.timeout.percentile}; the timeout is that percentile times
+ * {@code experience.client.timeout.multiplier}, clamped between {@code experience.client.timeout.min} and
+ * {@code experience.client.read-timeout}. The percentile only covers the last minute, so an endpoint uses the upper
+ * bound whenever fewer than {@code experience.client.timeout.min-samples} calls were recorded in that window, e.g.
+ * after a quiet spell. Timed out calls are recorded at the timeout they hit, so a timeout set too tight widens again.
+ */
+@Component
+public class AdaptiveReadTimeout {
+
+    private final MeterRegistry meterRegistry;
+    private final double percentile;
+    private final double multiplier;
+    private final long minSamples;
+    private final Duration min;
+    private final Duration max;
+
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+
+    public AdaptiveReadTimeout(MeterRegistry meterRegistry,
+                               @Value("${experience.client.timeout.percentile:0.99}") double percentile,
+                               @Value("${experience.client.timeout.multiplier:2.0}") double multiplier,
+                               @Value("${experience.client.timeout.min-samples:50}") long minSamples,
+                               @Value("${experience.client.timeout.min:100ms}") Duration min,
+                               @Value("${experience.client.read-timeout:3s}") Duration max) {
+        this.meterRegistry = meterRegistry;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minSamples = minSamples;
+        this.min = min;
+        this.max = max;
+    }
+
+    public void record(URI uri, Duration latency) {
+        latency(uri).record(latency.compareTo(max) > 0 ? max : latency);
+    }
+
+    public void recordTimeout(URI uri) {
+        record(uri, current(uri));
+    }
+
+    public Duration current(URI uri) {
+        HistogramSnapshot snapshot = latency(uri).takeSnapshot();
+        if (recentSamples(snapshot) < minSamples) {
+            return max;
+        }
+        for (ValueAtPercentile valueAtPercentile : snapshot.percentileValues()) {
+            if (valueAtPercentile.percentile() == percentile) {
+                long observedNanos = (long) (valueAtPercentile.value(TimeUnit.NANOSECONDS) * multiplier);
+                return clamp(Duration.ofNanos(observedNanos));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Samples of the last minute. The timer's own count never decays, but the single bucket at the upper bound lives
+     * in the same expiring histogram as the percentile and holds every sample, as {@link #record} caps them there.
+     */
+    private static double recentSamples(HistogramSnapshot snapshot) {
+        CountAtBucket[] buckets = snapshot.histogramCounts();
+        return buckets.length == 0 ? 0 : buckets[buckets.length - 1].count();
+    }
+
+    private Duration clamp(Duration timeout) {
+        if (timeout.compareTo(min) < 0) {
+            return min;
+        }
+        return timeout.compareTo(max) > 0 ? max : timeout;
+    }
+
+    private Timer latency(URI uri) {
+        return latencies.computeIfAbsent(uri.getPath(), path -> Timer.builder("experience.client.latency")
+                .tag("uri", path)
+                .description("Time until the experience service starts answering")
+                .publishPercentiles(percentile)
+                .sla(max)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,57 @@
+package com.knighttodo.knighttodo.gateway.experience.client;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Applies the {@link AdaptiveReadTimeout} of the target endpoint as the socket timeout of every request. Pair it with
+ * {@link #latencyRecorder()} so the timeouts are fed with the latency of successful and timed out calls.
+ */
+public class AdaptiveTimeoutRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final RequestConfig defaultRequestConfig;
+    private final AdaptiveReadTimeout adaptiveReadTimeout;
+
+    public AdaptiveTimeoutRequestFactory(HttpClient httpClient, RequestConfig defaultRequestConfig,
+                                         AdaptiveReadTimeout adaptiveReadTimeout) {
+        super(httpClient);
+        this.defaultRequestConfig = defaultRequestConfig;
+        this.adaptiveReadTimeout = adaptiveReadTimeout;
+    }
+
+    public ClientHttpRequestInterceptor latencyRecorder() {
+        return (request, body, execution) -> {
+            long start = System.nanoTime();
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (SocketTimeoutException ex) {
+                adaptiveReadTimeout.recordTimeout(request.getURI());
+                throw ex;
+            }
+            if (!response.getStatusCode().is5xxServerError()) {
+                adaptiveReadTimeout.record(request.getURI(), Duration.ofNanos(System.nanoTime() - start));
+            }
+            return response;
+        };
+    }
+
+    @Override
+    protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.copy(defaultRequestConfig)
+                .setSocketTimeout((int) adaptiveReadTimeout.current(uri).toMillis())
+                .build());
+        return context;
+    }
+}
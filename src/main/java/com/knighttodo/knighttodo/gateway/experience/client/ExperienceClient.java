@@ -2,35 +2,62 @@ package com.knighttodo.knighttodo.gateway.experience.client;
 
 import com.knighttodo.knighttodo.exception.ExperienceClientException;
 import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceMatrixResponse;
 import com.knighttodo.knighttodo.gateway.experience.response.ExperienceResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.Charset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+import static com.knighttodo.knighttodo.Constants.BASE_BATCH;
 import static com.knighttodo.knighttodo.Constants.BASE_EXPERIENCE_URL;
+import static com.knighttodo.knighttodo.Constants.BASE_MATRIX;
 
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class ExperienceClient {
 
+    private static final Set<HttpStatus> BATCH_UNSUPPORTED_STATUSES = EnumSet
+            .of(HttpStatus.NOT_FOUND, HttpStatus.METHOD_NOT_ALLOWED, HttpStatus.NOT_IMPLEMENTED);
+    private static final ParameterizedTypeReference<List<ExperienceResponse>> EXPERIENCE_RESPONSES =
+            new ParameterizedTypeReference<>() {};
+
+    private static final String METRIC_NAME = "experience.client.calls";
+
     private final RestTemplate restTemplate;
+    private final ExperienceResilience experienceResilience;
+    private final MeterRegistry meterRegistry;
 
     @Value("${baseUrl.experience}")
     private String experienceUrl;
 
     public ExperienceResponse calculateExperience(ExperienceRequest experienceRequest) {
         try {
-            ResponseEntity<ExperienceResponse> responseEntity = restTemplate
+            ResponseEntity<ExperienceResponse> responseEntity = timed("calculate", () -> experienceResilience.call(() -> restTemplate
                     .postForEntity(experienceUrl + API_BASE_URL + BASE_EXPERIENCE_URL, experienceRequest,
-                            ExperienceResponse.class);
+                            ExperienceResponse.class)));
             return responseEntity.getBody();
         } catch (HttpClientErrorException e) {
             log.error(e.getResponseBodyAsString(), e);
@@ -38,4 +65,76 @@ public class ExperienceClient {
                     Charset.defaultCharset());
         }
     }
+
+    /**
+     * Posts several requests in one round trip. Returns an empty optional when the experience service doesn't expose
+     * the batch endpoint, so the caller can fall back to {@link #calculateExperience(ExperienceRequest)}.
+     */
+    public Optional<List<ExperienceResponse>> calculateExperiences(List<ExperienceRequest> experienceRequests) {
+        try {
+            ResponseEntity<List<ExperienceResponse>> responseEntity = timed("calculateBatch", () -> experienceResilience.call(() -> restTemplate
+                    .exchange(experienceUrl + API_BASE_URL + BASE_EXPERIENCE_URL + BASE_BATCH, HttpMethod.POST,
+                            new HttpEntity<>(experienceRequests), EXPERIENCE_RESPONSES)));
+            return Optional.ofNullable(responseEntity.getBody());
+        } catch (HttpStatusCodeException e) {
+            if (BATCH_UNSUPPORTED_STATUSES.contains(e.getStatusCode())) {
+                return Optional.empty();
+            }
+            if (e instanceof HttpClientErrorException) {
+                log.error(e.getResponseBodyAsString(), e);
+                throw new ExperienceClientException(e.getStatusCode(), e.getStatusText(),
+                        e.getResponseBodyAsByteArray(), Charset.defaultCharset());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Fetches the experience awarded for every hardness and scariness pair. When {@code knownVersion} is given it is
+     * sent as an entity tag and an empty optional means the table hasn't changed since.
+     */
+    public Optional<ExperienceMatrixResponse> fetchExperienceMatrix(Long knownVersion) {
+        HttpHeaders headers = new HttpHeaders();
+        if (knownVersion != null) {
+            headers.setIfNoneMatch("\"" + knownVersion + "\"");
+        }
+        ResponseEntity<ExperienceMatrixResponse> responseEntity = timed("fetchMatrix", () -> experienceResilience
+                .callIdempotent(() -> restTemplate.exchange(
+                        experienceUrl + API_BASE_URL + BASE_EXPERIENCE_URL + BASE_MATRIX, HttpMethod.GET,
+                        new HttpEntity<>(headers), ExperienceMatrixResponse.class)));
+        if (responseEntity.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(responseEntity.getBody());
+    }
+
+    /**
+     * Times a call including its retries as {@code experience.client.calls}, tagged with the operation and the final
+     * status: the HTTP status code, {@code CIRCUIT_OPEN} or {@code BULKHEAD_FULL} when the call was rejected locally,
+     * or {@code CLIENT_ERROR} when no response arrived.
+     */
+    private <T> ResponseEntity<T> timed(String operation, Supplier<ResponseEntity<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "CLIENT_ERROR";
+        try {
+            ResponseEntity<T> responseEntity = call.get();
+            status = String.valueOf(responseEntity.getStatusCodeValue());
+            return responseEntity;
+        } catch (HttpStatusCodeException e) {
+            status = String.valueOf(e.getRawStatusCode());
+            throw e;
+        } catch (CallNotPermittedException e) {
+            status = "CIRCUIT_OPEN";
+            throw e;
+        } catch (BulkheadFullException e) {
+            status = "BULKHEAD_FULL";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Experience service calls including retries")
+                    .tag("operation", operation)
+                    .tag("status", status)
+                    .register(meterRegistry));
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package com.knighttodo.knighttodo.gateway.experience.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to the experience service. A semaphore bulkhead caps how many callers wait on it at once. A circuit
+ * breaker stops calling it while it keeps failing or answering slowly, and lets a few probes through once
+ * {@code experience.resilience.circuit-breaker.wait-in-open} has passed. Rejected calls fail fast, so the outbox
+ * defers the award instead of holding a thread. Retries use jittered exponential backoff. Only idempotent calls are
+ * retried after any transport or server error; other calls are retried only when the request never left this node.
+ */
+@Slf4j
+@Component
+public class ExperienceResilience {
+
+    private static final String NAME = "experience";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+    private final Retry idempotentRetry;
+
+    public ExperienceResilience(
+            MeterRegistry meterRegistry,
+            @Value("${experience.resilience.bulkhead.max-concurrent-calls:40}") int maxConcurrentCalls,
+            @Value("${experience.resilience.bulkhead.max-wait:50ms}") Duration maxWait,
+            @Value("${experience.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${experience.resilience.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${experience.resilience.circuit-breaker.slow-call-duration:1s}") Duration slowCallDuration,
+            @Value("${experience.resilience.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${experience.resilience.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${experience.resilience.circuit-breaker.wait-in-open:10s}") Duration waitInOpen,
+            @Value("${experience.resilience.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+            @Value("${experience.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${experience.resilience.retry.initial-backoff:100ms}") Duration initialBackoff,
+            @Value("${experience.resilience.retry.multiplier:2.0}") double multiplier,
+            @Value("${experience.resilience.retry.jitter:0.5}") double jitter) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(waitInOpen)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(ExperienceResilience::isServiceFailure)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        IntervalFunction backoff = IntervalFunction
+                .ofExponentialRandomBackoff(initialBackoff.toMillis(), multiplier, jitter);
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(backoff)
+                .retryOnException(ExperienceResilience::isUnsent)
+                .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.retry = retryRegistry.retry(NAME);
+        this.idempotentRetry = retryRegistry.retry(NAME + "-idempotent", RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(backoff)
+                .retryOnException(ExperienceResilience::isServiceFailure)
+                .build());
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        TaggedRetryMetrics.ofRetryRegistry(retryRegistry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Experience circuit breaker moved from {} to {}", transition.getFromState(),
+                    transition.getToState());
+            Counter.builder("experience.circuit.transitions")
+                    .tag("from", transition.getFromState().name().toLowerCase(Locale.ROOT))
+                    .tag("to", transition.getToState().name().toLowerCase(Locale.ROOT))
+                    .description("State transitions of the experience circuit breaker")
+                    .register(meterRegistry)
+                    .increment();
+        });
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        return decorate(retry, supplier).get();
+    }
+
+    public <T> T callIdempotent(Supplier<T> supplier) {
+        return decorate(idempotentRetry, supplier).get();
+    }
+
+    CircuitBreaker.State state() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> Supplier<T> decorate(Retry retry, Supplier<T> supplier) {
+        return Retry.decorateSupplier(retry,
+                CircuitBreaker.decorateSupplier(circuitBreaker,
+                        Bulkhead.decorateSupplier(bulkhead, supplier)));
+    }
+
+    private static boolean isServiceFailure(Throwable throwable) {
+        return throwable instanceof ResourceAccessException || throwable instanceof HttpServerErrorException;
+    }
+
+    private static boolean isUnsent(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException
+                    || cause instanceof ConnectionPoolTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
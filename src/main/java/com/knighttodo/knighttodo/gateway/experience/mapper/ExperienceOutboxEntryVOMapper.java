@@ -1,14 +1,13 @@
 package com.knighttodo.knighttodo.gateway.experience.mapper;
 
-import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
 import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
-public interface DayTodoVOMapper {
+public interface ExperienceOutboxEntryVOMapper {
 
-    @Mapping(target = "todoId", source = "id")
     @Mapping(target = "userId", ignore = true)
-    ExperienceRequest DayTodoToExperienceRequest(DayTodoVO dayTodoVO);
+    ExperienceRequest experienceOutboxEntryToExperienceRequest(ExperienceOutboxEntryVO experienceOutboxEntryVO);
 }
@@ -0,0 +1,21 @@
+package com.knighttodo.knighttodo.gateway.experience.response;
+
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExperienceMatrixCellResponse {
+
+    private Hardness hardness;
+
+    private Scariness scariness;
+
+    private int experience;
+}
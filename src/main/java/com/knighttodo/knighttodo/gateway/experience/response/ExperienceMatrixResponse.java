@@ -0,0 +1,19 @@
+package com.knighttodo.knighttodo.gateway.experience.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExperienceMatrixResponse {
+
+    private long version;
+
+    private List<ExperienceMatrixCellResponse> cells;
+}
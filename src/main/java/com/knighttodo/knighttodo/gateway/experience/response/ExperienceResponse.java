@@ -15,4 +15,6 @@ public class ExperienceResponse {
 
     private UUID todoId;
     private int experience;
+
+    private Long matrixVersion;
 }
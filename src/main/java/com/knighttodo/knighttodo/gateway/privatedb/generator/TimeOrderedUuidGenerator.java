@@ -0,0 +1,60 @@
+package com.knighttodo.knighttodo.gateway.privatedb.generator;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates UUIDv7-style identifiers: a 48-bit unix millisecond timestamp, a 12-bit sequence that orders ids created
+ * within the same millisecond, and 62 random bits. Ids issued by one node are strictly increasing in the byte order
+ * PostgreSQL uses for {@code uuid}, so inserts append to the right edge of the primary key index instead of landing
+ * on random pages. If the sequence runs out or the clock steps back, the timestamp of the previous id is carried
+ * forward.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "time-ordered-uuid";
+    public static final String STRATEGY = "com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator";
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final Random RANDOM = new SecureRandom();
+    private static final Object LOCK = new Object();
+
+    private static long lastTimestamp;
+    private static int sequence;
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return nextUuid();
+    }
+
+    public static UUID nextUuid() {
+        long timestamp;
+        int currentSequence;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0;
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            currentSequence = sequence;
+        }
+        long mostSignificantBits = (timestamp << 16) | VERSION | currentSequence;
+        long leastSignificantBits = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
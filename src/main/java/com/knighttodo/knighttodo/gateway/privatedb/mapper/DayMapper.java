@@ -2,8 +2,10 @@ package com.knighttodo.knighttodo.gateway.privatedb.mapper;
 
 import com.knighttodo.knighttodo.domain.DayVO;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring", uses = {DayTodoMapper.class})
 public interface DayMapper {
@@ -13,4 +15,9 @@ public interface DayMapper {
 
     @Mapping(target = "dayTodos", qualifiedByName = {"DayTodoMapper", "toDayTodoVOWithoutDay"})
     DayVO toDayVO(Day day);
+
+    @Named("toDayVOReference")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    DayVO toDayVOReference(Day day);
 }
@@ -17,6 +17,10 @@ public interface DayTodoMapper {
 
     DayTodoVO toTodoVO(DayTodo dayTodo);
 
+    @Named("toDayTodoVOWithDayReference")
+    @Mapping(target = "day", qualifiedByName = "toDayVOReference")
+    DayTodoVO toTodoVOWithDayReference(DayTodo dayTodo);
+
     @Named("toDayTodos")
     @IterableMapping(qualifiedByName = "toDayTodoWithoutDay")
     List<DayTodo> toDayTodos(List<DayTodoVO> dayTodoVOS);
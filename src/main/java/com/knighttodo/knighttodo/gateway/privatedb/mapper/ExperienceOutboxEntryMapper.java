@@ -0,0 +1,13 @@
+package com.knighttodo.knighttodo.gateway.privatedb.mapper;
+
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.ExperienceOutboxEntry;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ExperienceOutboxEntryMapper {
+
+    ExperienceOutboxEntry toExperienceOutboxEntry(ExperienceOutboxEntryVO experienceOutboxEntryVO);
+
+    ExperienceOutboxEntryVO toExperienceOutboxEntryVO(ExperienceOutboxEntry experienceOutboxEntry);
+}
@@ -1,15 +1,38 @@
 package com.knighttodo.knighttodo.gateway.privatedb.mapper;
 
 import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
+import com.knighttodo.knighttodo.domain.RoutineVO;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 @Named("RoutineInstanceMapper")
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = {RoutineTodoInstanceMapper.class})
 public interface RoutineInstanceMapper {
 
     RoutineInstance toRoutineInstance(RoutineInstanceVO routineInstanceVO);
 
+    @Mapping(target = "routine", qualifiedByName = "toRoutineVOReference")
+    @Mapping(target = "routineTodoInstances",
+            qualifiedByName = {"RoutineTodoInstanceMapper", "toRoutineTodoInstanceVOs"})
     RoutineInstanceVO toRoutineInstanceVO(RoutineInstance routineInstance);
+
+    @Named("toRoutineInstanceVOWithReferences")
+    @Mapping(target = "routine", qualifiedByName = "toRoutineVOReference")
+    @Mapping(target = "routineTodoInstances",
+            qualifiedByName = {"RoutineTodoInstanceMapper", "toRoutineTodoInstanceVOsWithReferences"})
+    RoutineInstanceVO toRoutineInstanceVOWithReferences(RoutineInstance routineInstance);
+
+    @Named("toRoutineInstanceVOReference")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    RoutineInstanceVO toRoutineInstanceVOReference(RoutineInstance routineInstance);
+
+    @Named("toRoutineVOReference")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    RoutineVO toRoutineVOReference(Routine routine);
 }
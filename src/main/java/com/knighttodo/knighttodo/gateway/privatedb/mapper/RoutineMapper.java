@@ -14,5 +14,6 @@ public interface RoutineMapper {
     Routine toRoutine(RoutineVO routineVO);
 
     @Mapping(target = "routineInstanceVOs", ignore = true)
+    @Mapping(target = "routineTodos", qualifiedByName = {"RoutineTodoMapper", "toRoutineTodoVOs"})
     RoutineVO toRoutineVO(Routine routine);
 }
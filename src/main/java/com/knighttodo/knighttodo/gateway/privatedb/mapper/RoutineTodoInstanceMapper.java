@@ -4,6 +4,7 @@ import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoVO;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodo;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -19,16 +20,45 @@ public interface RoutineTodoInstanceMapper {
     @Mapping(target = "routineTodo", source = "routineTodoVO")
     RoutineTodoInstance toRoutineTodoInstance(RoutineTodoInstanceVO routineTodoInstanceVO);
 
-    @Mapping(target = "routineInstanceVO", qualifiedByName = {"toRoutineTodoVOWithoutRoutineInstance"})
-    @Mapping(target = "routineTodoVO", source = "routineTodo")
+    @Named("toRoutineTodoInstanceVO")
+    @Mapping(target = "routineInstanceVO", source = "routineInstance",
+            qualifiedByName = {"RoutineInstanceMapper", "toRoutineInstanceVOReference"})
+    @Mapping(target = "routineTodoVO", source = "routineTodo", qualifiedByName = "toRoutineTodoVOWithoutInstances")
+    @Mapping(target = "routineTodo", qualifiedByName = "toRoutineTodoVOWithoutInstances")
     RoutineTodoInstanceVO toRoutineTodoInstanceVO(RoutineTodoInstance routineTodoInstance);
 
+    @Named("toRoutineTodoInstanceVOs")
+    @IterableMapping(qualifiedByName = "toRoutineTodoInstanceVO")
+    List<RoutineTodoInstanceVO> toRoutineTodoInstanceVOs(List<RoutineTodoInstance> routineTodoInstances);
+
+    @Named("toRoutineTodoInstanceVOWithReferences")
+    @Mapping(target = "routineInstanceVO", source = "routineInstance",
+            qualifiedByName = {"RoutineInstanceMapper", "toRoutineInstanceVOReference"})
+    @Mapping(target = "routineTodoVO", source = "routineTodo", qualifiedByName = "toRoutineTodoVOReference")
+    @Mapping(target = "routineTodo", qualifiedByName = "toRoutineTodoVOReference")
+    RoutineTodoInstanceVO toRoutineTodoInstanceVOWithReferences(RoutineTodoInstance routineTodoInstance);
+
+    @Named("toRoutineTodoInstanceVOsWithReferences")
+    @IterableMapping(qualifiedByName = "toRoutineTodoInstanceVOWithReferences")
+    List<RoutineTodoInstanceVO> toRoutineTodoInstanceVOsWithReferences(List<RoutineTodoInstance> routineTodoInstances);
+
+    @Named("toRoutineTodoVOReference")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    RoutineTodoVO toRoutineTodoVOReference(RoutineTodo routineTodo);
+
+    @Named("toRoutineTodoVOWithoutInstances")
+    @Mapping(target = "routineVO", ignore = true)
+    @Mapping(target = "routineTodoInstances", ignore = true)
+    @Mapping(target = "routineInstances", ignore = true)
+    RoutineTodoVO toRoutineTodoVOWithoutInstances(RoutineTodo routineTodo);
+
     @Named("toRoutineTodos")
     @IterableMapping(qualifiedByName = "toRoutineTodoWithoutRoutineInstance")
     List<RoutineTodo> toRoutineTodos(List<RoutineTodoVO> routineTodoVOS);
 
     @Named("toRoutineTodoVOs")
-    @IterableMapping(qualifiedByName = "toRoutineTodoVOWithoutRoutineInstance")
+    @IterableMapping(qualifiedByName = "toRoutineTodoVOWithoutInstances")
     List<RoutineTodoVO> toRoutineTodoVOs(List<RoutineTodo> routineTodos);
 
     @Named("toRoutineTodoInstanceWithoutRoutineInstance")
@@ -37,5 +67,7 @@ public interface RoutineTodoInstanceMapper {
 
     @Named("toRoutineTodoVOWithoutRoutineInstance")
     @Mapping(target = "routineInstanceVO", ignore = true)
+    @Mapping(target = "routineTodoVO", source = "routineTodo", qualifiedByName = "toRoutineTodoVOWithoutInstances")
+    @Mapping(target = "routineTodo", qualifiedByName = "toRoutineTodoVOWithoutInstances")
     RoutineTodoInstanceVO toRoutineTodoInstanceVOWithoutRoutineInstance(RoutineTodoInstance routineTodoInstance);
 }
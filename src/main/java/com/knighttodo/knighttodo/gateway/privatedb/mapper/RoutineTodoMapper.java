@@ -17,6 +17,8 @@ public interface RoutineTodoMapper {
     RoutineTodo toRoutineTodo(RoutineTodoVO routineTodoVO);
 
     @Mapping(target = "routineVO", qualifiedByName = {"toRoutineTodoVOWithoutRoutine"})
+    @Mapping(target = "routineTodoInstances", ignore = true)
+    @Mapping(target = "routineInstances", ignore = true)
     RoutineTodoVO toRoutineTodoVO(RoutineTodo routineTodo);
 
     @Named("toRoutineTodos")
@@ -33,5 +35,7 @@ public interface RoutineTodoMapper {
 
     @Named("toRoutineTodoVOWithoutRoutine")
     @Mapping(target = "routineVO", ignore = true)
+    @Mapping(target = "routineTodoInstances", ignore = true)
+    @Mapping(target = "routineInstances", ignore = true)
     RoutineTodoVO toRoutineTodoVOWithoutRoutine(RoutineTodo routineTodo);
 }
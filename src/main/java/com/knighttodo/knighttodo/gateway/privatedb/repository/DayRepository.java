@@ -1,14 +1,18 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
-public interface DayRepository extends JpaRepository<Day, UUID> {
+public interface DayRepository extends KeysetRepository<Day> {
+
+    @EntityGraph(attributePaths = "dayTodos")
+    Optional<Day> findWithDayTodosById(UUID dayId);
 
     @Modifying
     @Query("delete from DayTodo dt where dt.day.id=:dayId")
@@ -1,12 +1,25 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface DayTodoRepository extends JpaRepository<DayTodo, UUID> {
+public interface DayTodoRepository extends KeysetRepository<DayTodo> {
 
     List<DayTodo> findByDayId(UUID dayId);
+
+    @EntityGraph(attributePaths = {"day", "day.dayTodos"})
+    Optional<DayTodo> findWithDayById(UUID dayTodoId);
+
+    Optional<DayTodo> findByIdAndDayId(UUID dayTodoId, UUID dayId);
+
+    @Query(value = "update day_todo set ready = :ready where id = :dayTodoId and day_id = :dayId and ready <> :ready "
+            + "returning *", nativeQuery = true)
+    Optional<DayTodo> updateReadyIfChanged(@Param("dayId") UUID dayId, @Param("dayTodoId") UUID dayTodoId,
+                                           @Param("ready") boolean ready);
 }
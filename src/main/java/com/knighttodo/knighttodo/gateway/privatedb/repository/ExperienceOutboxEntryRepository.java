@@ -0,0 +1,45 @@
+package com.knighttodo.knighttodo.gateway.privatedb.repository;
+
+import com.knighttodo.knighttodo.gateway.privatedb.representation.ExperienceOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ExperienceOutboxEntryRepository extends JpaRepository<ExperienceOutboxEntry, UUID> {
+
+    /**
+     * Locks up to {@code limit} due entries, skipping rows another dispatcher already holds, so several nodes can
+     * drain the outbox concurrently without handing out the same entry twice.
+     */
+    @Query(value = "select * from experience_outbox where next_attempt_at <= :now order by next_attempt_at "
+            + "limit :limit for update skip locked", nativeQuery = true)
+    List<ExperienceOutboxEntry> findDueForUpdateSkipLocked(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Query(value = "select * from experience_outbox where id = :id and next_attempt_at <= :now "
+            + "for update skip locked", nativeQuery = true)
+    Optional<ExperienceOutboxEntry> findDueByIdForUpdateSkipLocked(@Param("id") UUID id, @Param("now") Instant now);
+
+    @Modifying
+    @Query("update ExperienceOutboxEntry e set e.nextAttemptAt=:leaseUntil, e.attempts=e.attempts + 1 "
+            + "where e.id in :ids")
+    int lease(@Param("ids") Collection<UUID> ids, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("update ExperienceOutboxEntry e set e.nextAttemptAt=:nextAttemptAt, e.lastError=:lastError where e.id=:id")
+    int reschedule(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("delete from ExperienceOutboxEntry e where e.id=:id")
+    int deleteEntryById(@Param("id") UUID id);
+
+    @Query("select min(e.createdAt) from ExperienceOutboxEntry e")
+    Optional<Instant> findOldestCreatedAt();
+}
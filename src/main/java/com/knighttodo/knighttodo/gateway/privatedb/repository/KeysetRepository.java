@@ -0,0 +1,26 @@
+package com.knighttodo.knighttodo.gateway.privatedb.repository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.UUID;
+
+@NoRepositoryBean
+public interface KeysetRepository<T> extends JpaRepository<T, UUID> {
+
+    List<T> findByOrderByIdAsc(Pageable pageable);
+
+    List<T> findByIdGreaterThanOrderByIdAsc(UUID cursor, Pageable pageable);
+
+    /**
+     * Returns up to {@code limit + 1} rows ordered by id and strictly after {@code cursor}, so the caller can tell
+     * whether another page exists without issuing a count query.
+     */
+    default List<T> findPage(UUID cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        return cursor == null ? findByOrderByIdAsc(pageable) : findByIdGreaterThanOrderByIdAsc(cursor, pageable);
+    }
+}
@@ -1,14 +1,18 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
-public interface RoutineInstanceRepository extends JpaRepository<RoutineInstance, UUID> {
+public interface RoutineInstanceRepository extends KeysetRepository<RoutineInstance> {
+
+    @EntityGraph(attributePaths = {"routineTodoInstances", "routineTodoInstances.routineTodo"})
+    Optional<RoutineInstance> findWithRoutineTodoInstancesById(UUID routineInstanceId);
 
     @Modifying
     @Query("delete from RoutineTodoInstance rti where rti.routineInstance.id=:routineInstanceId")
@@ -1,14 +1,18 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Optional;
 import java.util.UUID;
 
-public interface RoutineRepository extends JpaRepository<Routine, UUID> {
+public interface RoutineRepository extends KeysetRepository<Routine> {
+
+    @EntityGraph(attributePaths = "routineTodos")
+    Optional<Routine> findWithRoutineTodosById(UUID routineId);
 
     @Modifying
     @Query("delete from RoutineInstance ri where ri.routine.id=:routineId")
@@ -1,12 +1,26 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface RoutineTodoInstanceRepository extends JpaRepository<RoutineTodoInstance, UUID> {
+public interface RoutineTodoInstanceRepository extends KeysetRepository<RoutineTodoInstance> {
 
     List<RoutineTodoInstance> findByRoutineInstanceId(UUID routineInstanceId);
+
+    @EntityGraph(attributePaths = "routineTodo")
+    Optional<RoutineTodoInstance> findWithRoutineTodoById(UUID routineTodoInstanceId);
+
+    Optional<RoutineTodoInstance> findByIdAndRoutineInstanceId(UUID routineTodoInstanceId, UUID routineInstanceId);
+
+    @Query(value = "update routine_todo_instance set ready = :ready where id = :routineTodoInstanceId "
+            + "and routine_instance_id = :routineInstanceId and ready <> :ready returning *", nativeQuery = true)
+    Optional<RoutineTodoInstance> updateReadyIfChanged(@Param("routineInstanceId") UUID routineInstanceId,
+                                                       @Param("routineTodoInstanceId") UUID routineTodoInstanceId,
+                                                       @Param("ready") boolean ready);
 }
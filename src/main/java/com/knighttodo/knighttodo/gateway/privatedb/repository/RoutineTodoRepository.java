@@ -1,7 +1,8 @@
 package com.knighttodo.knighttodo.gateway.privatedb.repository;
 
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodo;
-import org.springframework.data.jpa.repository.JpaRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,11 +10,19 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.UUID;
 
-public interface RoutineTodoRepository extends JpaRepository<RoutineTodo, UUID> {
+public interface RoutineTodoRepository extends KeysetRepository<RoutineTodo> {
 
     List<RoutineTodo> findByRoutineId(UUID id);
 
     @Modifying
     @Query("delete from RoutineTodoInstance rti where rti.routineTodo.id=:routineTodoId")
     void deleteAllRoutineTodoInstancesByRoutineTodoId(@Param("routineTodoId") UUID routineTodoId);
+
+    @Modifying
+    @Query("update RoutineTodoInstance rti set rti.routineTodoName=:routineTodoName, rti.hardness=:hardness, "
+            + "rti.scariness=:scariness where rti.routineTodo.id=:routineTodoId and rti.ready=false")
+    int updateNotReadyRoutineTodoInstancesByRoutineTodoId(@Param("routineTodoId") UUID routineTodoId,
+                                                          @Param("routineTodoName") String routineTodoName,
+                                                          @Param("hardness") Hardness hardness,
+                                                          @Param("scariness") Scariness scariness);
 }
@@ -1,14 +1,16 @@
 package com.knighttodo.knighttodo.gateway.privatedb.representation;
 
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "day_todo")
+@Table(name = "day_todo", indexes = @Index(name = "idx_day_todo_day_id", columnList = "day_id"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -17,7 +19,8 @@ import java.util.UUID;
 public class DayTodo {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(name = "id")
     private UUID id;
 
@@ -35,6 +38,6 @@ public class DayTodo {
     @Column(name = "ready")
     private boolean ready = false;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Day day;
 }
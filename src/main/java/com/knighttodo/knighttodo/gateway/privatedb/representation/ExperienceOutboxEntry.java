@@ -0,0 +1,53 @@
+package com.knighttodo.knighttodo.gateway.privatedb.representation;
+
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "experience_outbox",
+        indexes = @Index(name = "idx_experience_outbox_next_attempt_at", columnList = "next_attempt_at"))
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExperienceOutboxEntry {
+
+    @Id
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "todo_id", nullable = false)
+    private UUID todoId;
+
+    @Column(name = "scaryness")
+    @Enumerated(EnumType.STRING)
+    private Scariness scariness;
+
+    @Column(name = "hardness")
+    @Enumerated(EnumType.STRING)
+    private Hardness hardness;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
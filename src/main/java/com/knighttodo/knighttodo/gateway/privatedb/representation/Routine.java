@@ -1,8 +1,10 @@
 package com.knighttodo.knighttodo.gateway.privatedb.representation;
 
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -19,7 +21,8 @@ import java.util.UUID;
 public class Routine {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     private UUID id;
 
     private String name;
@@ -1,15 +1,18 @@
 package com.knighttodo.knighttodo.gateway.privatedb.representation;
 
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "routine_instance")
+@Table(name = "routine_instance",
+        indexes = @Index(name = "idx_routine_instance_routine_id", columnList = "routine_id"))
 @Builder
 @Getter
 @Setter
@@ -19,7 +22,8 @@ import java.util.UUID;
 public class RoutineInstance {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(name = "id")
     private UUID id;
 
@@ -33,7 +37,7 @@ public class RoutineInstance {
 
     private boolean ready;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Routine routine;
 
     @OneToMany(mappedBy = "routineInstance", cascade = CascadeType.MERGE)
@@ -1,15 +1,17 @@
 package com.knighttodo.knighttodo.gateway.privatedb.representation;
 
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "routine_todo")
+@Table(name = "routine_todo", indexes = @Index(name = "idx_routine_todo_routine_id", columnList = "routine_id"))
 @Data
 @Builder
 @AllArgsConstructor
@@ -18,7 +20,8 @@ import java.util.UUID;
 public class RoutineTodo {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(name = "id")
     private UUID id;
 
@@ -36,7 +39,7 @@ public class RoutineTodo {
     @Column(name = "ready")
     private boolean ready = false;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Routine routine;
 
     @OneToMany(mappedBy = "routineTodo")
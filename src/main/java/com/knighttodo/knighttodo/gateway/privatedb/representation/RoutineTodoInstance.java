@@ -1,14 +1,18 @@
 package com.knighttodo.knighttodo.gateway.privatedb.representation;
 
+import com.knighttodo.knighttodo.gateway.privatedb.generator.TimeOrderedUuidGenerator;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "routine_todo")
+@Table(name = "routine_todo_instance", indexes = {
+        @Index(name = "idx_routine_todo_instance_routine_instance_id", columnList = "routine_instance_id"),
+        @Index(name = "idx_routine_todo_instance_routine_todo_id", columnList = "routine_todo_id")})
 @Data
 @Builder
 @AllArgsConstructor
@@ -17,7 +21,8 @@ import java.util.UUID;
 public class RoutineTodoInstance {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = TimeOrderedUuidGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedUuidGenerator.NAME, strategy = TimeOrderedUuidGenerator.STRATEGY)
     @Column(name = "id")
     private UUID id;
 
@@ -35,9 +40,9 @@ public class RoutineTodoInstance {
     @Column(name = "ready")
     private boolean ready = false;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private RoutineInstance routineInstance;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private RoutineTodo routineTodo;
 }
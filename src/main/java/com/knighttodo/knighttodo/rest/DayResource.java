@@ -1,10 +1,12 @@
 package com.knighttodo.knighttodo.rest;
 
 import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.exception.*;
 import com.knighttodo.knighttodo.rest.mapper.DayRestMapper;
 import com.knighttodo.knighttodo.rest.request.DayRequestDto;
 import com.knighttodo.knighttodo.rest.response.DayResponseDto;
+import com.knighttodo.knighttodo.rest.response.PageResponseDto;
 import com.knighttodo.knighttodo.service.DayService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -20,8 +22,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.knighttodo.knighttodo.Constants.API_BASE_DAYS;
-import static com.knighttodo.knighttodo.Constants.API_BASE_URL_V1;
+import static com.knighttodo.knighttodo.Constants.*;
 
 @Api(value = "DayResource controller")
 @Slf4j
@@ -55,19 +56,22 @@ public class DayResource {
 
     @GetMapping
     @ResponseStatus(HttpStatus.FOUND)
-    @ApiOperation(value = "Find all Days", response = DayResponseDto.class, responseContainer = "List")
+    @ApiOperation(value = "Find all Days", response = PageResponseDto.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Days found"),
             @ApiResponse(code = 400, message = "Invalid operation"),
             @ApiResponse(code = 403, message = "Operation forbidden"),
             @ApiResponse(code = 500, message = "Unexpected error")
     })
-    public List<DayResponseDto> findAllDays() {
+    public PageResponseDto<DayResponseDto> findAllDays(@RequestParam(name = PARAM_CURSOR, required = false) UUID cursor,
+                                                       @RequestParam(name = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_SIZE) int limit) {
         try {
-            return dayService.findAll()
+            PageVO<DayVO> page = dayService.findAll(cursor, limit);
+            List<DayResponseDto> content = page.getContent()
                     .stream()
                     .map(dayRestMapper::toDayResponseDto)
                     .collect(Collectors.toList());
+            return new PageResponseDto<>(content, page.getNext());
         } catch (RuntimeException ex) {
             log.error("Days can't be found.", ex);
             throw new FindAllDaysException("Days can't be found.", ex);
@@ -18,8 +18,11 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.knighttodo.knighttodo.Constants.*;
@@ -55,6 +58,33 @@ public class DayTodoResource {
         }
     }
 
+    @PostMapping(API_BASE_BULK)
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiOperation(value = "Add a list of new Day Todos", response = DayTodoResponseDto.class,
+            responseContainer = "List")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Created"),
+            @ApiResponse(code = 400, message = "Invalid operation"),
+            @ApiResponse(code = 403, message = "Operation forbidden"),
+            @ApiResponse(code = 500, message = "Unexpected error")
+    })
+    public List<DayTodoResponseDto> addDayTodos(@PathVariable UUID dayId,
+                                                @RequestBody @NotEmpty @Size(max = MAX_BULK_SIZE)
+                                                List<@Valid DayTodoRequestDto> requestDtos) {
+        try {
+            List<DayTodoVO> dayTodoVOs = requestDtos.stream()
+                    .map(dayTodoRestMapper::toDayTodoVO)
+                    .collect(Collectors.toList());
+            return dayTodoService.saveAll(dayId, dayTodoVOs)
+                    .stream()
+                    .map(dayTodoRestMapper::toDayTodoResponseDto)
+                    .collect(Collectors.toList());
+        } catch (RuntimeException ex) {
+            log.error("Day todos haven't been created.", ex);
+            throw new CreateDayTodoException("Day todos haven't been created.", ex);
+        }
+    }
+
     @GetMapping
     @ResponseStatus(HttpStatus.FOUND)
     @ApiOperation(value = "Find all Day Todos by the day id", response = DayTodoResponseDto.class, responseContainer = "List")
@@ -149,12 +179,18 @@ public class DayTodoResource {
             @ApiResponse(code = 404, message = "Resource not found"),
             @ApiResponse(code = 500, message = "Unexpected error")
     })
-    public DayTodoReadyResponseDto updateIsReady(@PathVariable UUID dayId, @PathVariable UUID dayTodoId,
-                                                 @RequestParam String ready) {
+    public CompletableFuture<DayTodoReadyResponseDto> updateIsReady(@PathVariable UUID dayId,
+                                                                    @PathVariable UUID dayTodoId,
+                                                                    @RequestParam String ready) {
         try {
             boolean isReady = Boolean.parseBoolean(ready);
-            DayTodoVO dayTodoVO = dayTodoService.updateIsReady(dayId, dayTodoId, isReady);
-            return dayTodoRestMapper.toDayTodoReadyResponseDto(dayTodoVO);
+            return dayTodoService.updateIsReady(dayId, dayTodoId, isReady)
+                    .thenApply(dayTodoRestMapper::toDayTodoReadyResponseDto)
+                    .exceptionally(ex -> {
+                        log.error("Day todo experience can't be calculated.", ex);
+                        throw new DayTodoReadyCanNotBeUpdatedException("Day todo experience can't be calculated.",
+                                ex.getCause() == null ? ex : ex.getCause());
+                    });
         } catch (RuntimeException ex) {
             log.error("Day todo ready can't be updated.", ex);
             throw new DayTodoReadyCanNotBeUpdatedException("Day todo ready can't be updated.", ex);
@@ -1,11 +1,13 @@
 package com.knighttodo.knighttodo.rest;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
 import com.knighttodo.knighttodo.exception.CreateRoutineInstanceException;
 import com.knighttodo.knighttodo.exception.FindAllRoutineInstancesException;
 import com.knighttodo.knighttodo.exception.FindRoutineInstanceByIdException;
 import com.knighttodo.knighttodo.rest.mapper.RoutineInstanceRestMapper;
 import com.knighttodo.knighttodo.rest.request.RoutineInstanceRequestDto;
+import com.knighttodo.knighttodo.rest.response.PageResponseDto;
 import com.knighttodo.knighttodo.rest.response.RoutineInstanceResponseDto;
 import com.knighttodo.knighttodo.service.RoutineInstanceService;
 import io.swagger.annotations.Api;
@@ -57,19 +59,22 @@ public class RoutineInstanceResource {
 
     @GetMapping
     @ResponseStatus(HttpStatus.FOUND)
-    @ApiOperation(value = "Find all Routine Instances", response = RoutineInstanceResponseDto.class, responseContainer = "List")
+    @ApiOperation(value = "Find all Routine Instances", response = PageResponseDto.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Routine found"),
             @ApiResponse(code = 400, message = "Invalid operation"),
             @ApiResponse(code = 403, message = "Operation forbidden"),
             @ApiResponse(code = 500, message = "Unexpected error")
     })
-    public List<RoutineInstanceResponseDto> findAllRoutineInstances() {
+    public PageResponseDto<RoutineInstanceResponseDto> findAllRoutineInstances(@RequestParam(name = PARAM_CURSOR, required = false) UUID cursor,
+                                                                               @RequestParam(name = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_SIZE) int limit) {
         try {
-            return routineInstanceService.findAll()
+            PageVO<RoutineInstanceVO> page = routineInstanceService.findAll(cursor, limit);
+            List<RoutineInstanceResponseDto> content = page.getContent()
                     .stream()
                     .map(routineInstanceRestMapper::toRoutineInstanceResponseDto)
                     .collect(Collectors.toList());
+            return new PageResponseDto<>(content, page.getNext());
         } catch (RuntimeException ex) {
             log.error("Routine Instances can't be found.", ex);
             throw new FindAllRoutineInstancesException("Routine Instances can't be found.", ex);
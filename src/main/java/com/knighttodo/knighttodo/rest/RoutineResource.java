@@ -1,9 +1,11 @@
 package com.knighttodo.knighttodo.rest;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineVO;
 import com.knighttodo.knighttodo.exception.*;
 import com.knighttodo.knighttodo.rest.mapper.RoutineRestMapper;
 import com.knighttodo.knighttodo.rest.request.RoutineRequestDto;
+import com.knighttodo.knighttodo.rest.response.PageResponseDto;
 import com.knighttodo.knighttodo.rest.response.RoutineResponseDto;
 import com.knighttodo.knighttodo.service.RoutineService;
 import io.swagger.annotations.Api;
@@ -20,8 +22,7 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.knighttodo.knighttodo.Constants.API_BASE_ROUTINES;
-import static com.knighttodo.knighttodo.Constants.API_BASE_URL_V1;
+import static com.knighttodo.knighttodo.Constants.*;
 
 @Api(value = "RoutineResource controller")
 @Slf4j
@@ -55,19 +56,22 @@ public class RoutineResource {
 
     @GetMapping
     @ResponseStatus(HttpStatus.FOUND)
-    @ApiOperation(value = "Find all Routines", response = RoutineResponseDto.class, responseContainer = "List")
+    @ApiOperation(value = "Find all Routines", response = PageResponseDto.class)
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Routine found"),
             @ApiResponse(code = 400, message = "Invalid operation"),
             @ApiResponse(code = 403, message = "Operation forbidden"),
             @ApiResponse(code = 500, message = "Unexpected error")
     })
-    public List<RoutineResponseDto> findAllRoutines() {
+    public PageResponseDto<RoutineResponseDto> findAllRoutines(@RequestParam(name = PARAM_CURSOR, required = false) UUID cursor,
+                                                               @RequestParam(name = PARAM_LIMIT, defaultValue = DEFAULT_PAGE_SIZE) int limit) {
         try {
-            return routineService.findAll()
+            PageVO<RoutineVO> page = routineService.findAll(cursor, limit);
+            List<RoutineResponseDto> content = page.getContent()
                     .stream()
                     .map(routineRestMapper::toRoutineResponseDto)
                     .collect(Collectors.toList());
+            return new PageResponseDto<>(content, page.getNext());
         } catch (RuntimeException ex) {
             log.error("Routines can't be found.", ex);
             throw new FindAllRoutinesException("Routines can't be found.", ex);
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static com.knighttodo.knighttodo.Constants.*;
@@ -85,14 +86,19 @@ public class RoutineTodoInstanceResource {
             @ApiResponse(code = 404, message = "Resource not found"),
             @ApiResponse(code = 500, message = "Unexpected error")
     })
-    public RoutineTodoInstanceReadyResponseDto updateIsReady(@PathVariable UUID routineInstanceId,
-                                                             @PathVariable UUID routineTodoInstanceId,
-                                                             @RequestParam String ready) {
+    public CompletableFuture<RoutineTodoInstanceReadyResponseDto> updateIsReady(@PathVariable UUID routineInstanceId,
+                                                                                @PathVariable UUID routineTodoInstanceId,
+                                                                                @RequestParam String ready) {
         try {
             boolean isReady = Boolean.parseBoolean(ready);
-            RoutineTodoInstanceVO routineTodoInstanceVO = routineTodoInstanceService
-                    .updateIsReady(routineInstanceId, routineTodoInstanceId, isReady);
-            return routineTodoInstanceRestMapper.toRoutineTodoInstanceReadyResponseDto(routineTodoInstanceVO);
+            return routineTodoInstanceService.updateIsReady(routineInstanceId, routineTodoInstanceId, isReady)
+                    .thenApply(routineTodoInstanceRestMapper::toRoutineTodoInstanceReadyResponseDto)
+                    .exceptionally(ex -> {
+                        log.error("Routine todo instance experience can't be calculated.", ex);
+                        throw new RoutineTodoInstanceReadyCanNotBeUpdatedException(
+                                "Routine todo instance experience can't be calculated.",
+                                ex.getCause() == null ? ex : ex.getCause());
+                    });
         } catch (RuntimeException ex) {
             log.error("Routine todo instance ready can't be updated.", ex);
             throw new RoutineTodoInstanceReadyCanNotBeUpdatedException("Routine todo instance ready can't be updated.", ex);
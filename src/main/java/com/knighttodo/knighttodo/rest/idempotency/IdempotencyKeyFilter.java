@@ -0,0 +1,180 @@
+package com.knighttodo.knighttodo.rest.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+import static com.knighttodo.knighttodo.Constants.HEADER_IDEMPOTENCY_KEY;
+
+/**
+ * Makes API writes carrying an {@code Idempotency-Key} header safe to retry. The first request with a key runs as
+ * usual and its response is kept for {@code idempotency.ttl}; a retry with the same key, method, path, query string
+ * and body gets that response back without reaching the controllers, the database or the experience service. A key
+ * reused with a different query string or body is answered with 422 rather than replayed, since the ready toggles
+ * carry their new state in the query. A retry arriving while the first request still runs is answered with 409.
+ * Server errors aren't kept, so the client can retry them for real. Stored responses are evicted once their bodies
+ * add up to {@code idempotency.max-size}.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    private static final Set<HttpMethod> WRITE_METHODS = EnumSet.of(HttpMethod.POST, HttpMethod.PUT,
+            HttpMethod.PATCH, HttpMethod.DELETE);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String STORE_KEY_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".STORE_KEY";
+    private static final String REQUEST_HASH_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".REQUEST_HASH";
+
+    private final Cache<String, StoredResponse> storedResponses;
+
+    public IdempotencyKeyFilter(@Value("${idempotency.ttl:24h}") Duration ttl,
+                                @Value("${idempotency.in-flight-ttl:1m}") Duration inFlightTtl,
+                                @Value("${idempotency.max-size:32MB}") DataSize maxSize) {
+        this.storedResponses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, StoredResponse response) -> key.length() + response.weight())
+                .expireAfter(new Expiry<String, StoredResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, StoredResponse response, long currentTime) {
+                        return (response.isInFlight() ? inFlightTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, StoredResponse response, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, response, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, StoredResponse response, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        return method == null || !WRITE_METHODS.contains(method) || request.getHeader(HEADER_IDEMPOTENCY_KEY) == null
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_BASE_URL);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            complete(request, WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class));
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(HEADER_IDEMPOTENCY_KEY);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, HEADER_IDEMPOTENCY_KEY + " must be 1 to " + MAX_KEY_LENGTH
+                    + " characters long");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        byte[] requestHash = hash(request.getQueryString(), body);
+        String storeKey = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        StoredResponse storedResponse = storedResponses.asMap()
+                .putIfAbsent(storeKey, StoredResponse.inFlight(requestHash));
+        if (storedResponse != null) {
+            if (!storedResponse.answers(requestHash)) {
+                reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "This " + HEADER_IDEMPOTENCY_KEY
+                        + " was already used for a request with a different query or body");
+            } else if (storedResponse.isInFlight()) {
+                reject(response, HttpStatus.CONFLICT, "A request with this " + HEADER_IDEMPOTENCY_KEY
+                        + " is still being processed");
+            } else {
+                log.debug("Replaying stored response for {}", storeKey);
+                storedResponse.replay(response);
+            }
+            return;
+        }
+
+        request.setAttribute(STORE_KEY_ATTRIBUTE, storeKey);
+        request.setAttribute(REQUEST_HASH_ATTRIBUTE, requestHash);
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            storedResponses.invalidate(storeKey);
+            throw ex;
+        }
+        if (!isAsyncStarted(request)) {
+            complete(request, responseWrapper);
+        }
+    }
+
+    private void complete(HttpServletRequest request, ContentCachingResponseWrapper responseWrapper)
+            throws IOException {
+        String storeKey = (String) request.getAttribute(STORE_KEY_ATTRIBUTE);
+        if (storeKey == null || responseWrapper == null) {
+            return;
+        }
+        if (HttpStatus.valueOf(responseWrapper.getStatus()).is5xxServerError()) {
+            storedResponses.invalidate(storeKey);
+        } else {
+            byte[] requestHash = (byte[]) request.getAttribute(REQUEST_HASH_ATTRIBUTE);
+            storedResponses.put(storeKey, StoredResponse.of(requestHash, responseWrapper,
+                    responseWrapper.getContentAsByteArray()));
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private static byte[] hash(String queryString, byte[] body) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        if (queryString != null) {
+            digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+        return digest.digest(body);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String detail) throws IOException {
+        byte[] body = String.format("{\"title\":\"%s\",\"status\":%d,\"detail\":\"%s\"}",
+                status.getReasonPhrase(), status.value(), detail).getBytes(StandardCharsets.UTF_8);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,60 @@
+package com.knighttodo.knighttodo.rest.idempotency;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+import static com.knighttodo.knighttodo.Constants.HEADER_IDEMPOTENT_REPLAYED;
+
+/**
+ * Response recorded for an idempotency key, or a marker that the first request with that key is still running. Both
+ * carry the hash of the request they answer, so a key reused for a different request can be told apart from a retry.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class StoredResponse {
+
+    private final byte[] requestHash;
+    private final boolean inFlight;
+    private final int status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    static StoredResponse inFlight(byte[] requestHash) {
+        return new StoredResponse(requestHash, true, 0, new HttpHeaders(), new byte[0]);
+    }
+
+    static StoredResponse of(byte[] requestHash, HttpServletResponse response, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : response.getHeaderNames()) {
+            response.getHeaders(name).forEach(value -> headers.add(name, value));
+        }
+        return new StoredResponse(requestHash, false, response.getStatus(), headers, body);
+    }
+
+    boolean isInFlight() {
+        return inFlight;
+    }
+
+    boolean answers(byte[] requestHash) {
+        return MessageDigest.isEqual(this.requestHash, requestHash);
+    }
+
+    int weight() {
+        return requestHash.length + body.length;
+    }
+    void replay(HttpServletResponse response) throws IOException {
+        response.setStatus(status);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+        }
+        response.setHeader(HEADER_IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,21 @@
+package com.knighttodo.knighttodo.rest.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PageResponseDto<T> {
+
+    private List<T> content = new ArrayList<>();
+
+    private UUID next;
+}
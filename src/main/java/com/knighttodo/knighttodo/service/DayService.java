@@ -1,18 +1,20 @@
 package com.knighttodo.knighttodo.service;
 
 import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface DayService {
 
     DayVO save(DayVO dayVO);
 
-    List<DayVO> findAll();
+    PageVO<DayVO> findAll(UUID cursor, int limit);
 
     DayVO findById(UUID dayId);
 
+    DayVO findReferenceById(UUID dayId);
+
     DayVO updateDay(UUID dayId, DayVO changedDayVO);
 
     void deleteById(UUID dayId);
@@ -1,15 +1,19 @@
 package com.knighttodo.knighttodo.service;
 
 import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface DayTodoService {
 
     DayTodoVO save(UUID dayId, DayTodoVO dayTodoVO);
 
-    List<DayTodoVO> findAll();
+    List<DayTodoVO> saveAll(UUID dayId, List<DayTodoVO> dayTodoVOs);
+
+    PageVO<DayTodoVO> findAll(UUID cursor, int limit);
 
     DayTodoVO findById(UUID todoId);
 
@@ -19,5 +23,5 @@ public interface DayTodoService {
 
     List<DayTodoVO> findByDayId(UUID dayId);
 
-    DayTodoVO updateIsReady(UUID dayId, UUID todoId, boolean isReady);
+    CompletableFuture<DayTodoVO> updateIsReady(UUID dayId, UUID todoId, boolean isReady);
 }
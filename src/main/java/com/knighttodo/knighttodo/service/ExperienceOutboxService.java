@@ -0,0 +1,26 @@
+package com.knighttodo.knighttodo.service;
+
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.domain.TodoVO;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ExperienceOutboxService {
+
+    ExperienceOutboxEntryVO append(TodoVO todoVO);
+
+    List<ExperienceOutboxEntryVO> claimDue(int limit);
+
+    Optional<ExperienceOutboxEntryVO> claim(UUID entryId);
+
+    void complete(UUID entryId);
+
+    void fail(ExperienceOutboxEntryVO entry, RuntimeException cause);
+
+    long count();
+
+    Optional<Instant> findOldestCreatedAt();
+}
@@ -0,0 +1,13 @@
+package com.knighttodo.knighttodo.service;
+
+import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ExperienceService {
+
+    CompletableFuture<DayTodoVO> awardExperience(DayTodoVO dayTodoVO);
+
+    CompletableFuture<RoutineTodoInstanceVO> awardExperience(RoutineTodoInstanceVO routineTodoInstanceVO);
+}
@@ -1,15 +1,15 @@
 package com.knighttodo.knighttodo.service;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface RoutineInstanceService {
 
     RoutineInstanceVO save(RoutineInstanceVO routineInstanceVO, UUID routineId);
 
-    List<RoutineInstanceVO> findAll();
+    PageVO<RoutineInstanceVO> findAll(UUID cursor, int limit);
 
     RoutineInstanceVO findById(UUID routineInstanceId);
 
@@ -1,22 +1,19 @@
 package com.knighttodo.knighttodo.service;
 
-import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineVO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface RoutineService {
 
     RoutineVO save(RoutineVO routineVO);
 
-    List<RoutineVO> findAll();
+    PageVO<RoutineVO> findAll(UUID cursor, int limit);
 
     RoutineVO findById(UUID routineId);
 
     RoutineVO updateRoutine(UUID routineId, RoutineVO changedRoutineVO);
 
     void deleteById(UUID routineId);
-
-    List<RoutineTodoInstanceVO> updateRoutineTodoInstances(UUID routineId, List<RoutineTodoInstanceVO> routineTodoInstanceVOs);
 }
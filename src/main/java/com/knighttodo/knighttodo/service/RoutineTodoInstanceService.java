@@ -1,21 +1,23 @@
 package com.knighttodo.knighttodo.service;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface RoutineTodoInstanceService {
 
     RoutineTodoInstanceVO save(UUID routineInstanceId, RoutineTodoInstanceVO routineTodoInstanceVO);
 
-    List<RoutineTodoInstanceVO> findAll();
+    PageVO<RoutineTodoInstanceVO> findAll(UUID cursor, int limit);
 
     RoutineTodoInstanceVO findById(UUID routineTodoInstanceId);
 
     List<RoutineTodoInstanceVO> findByRoutineInstanceId(UUID routineInstanceId);
 
-    RoutineTodoInstanceVO updateIsReady(UUID routineInstanceId, UUID routineTodoInstanceId, boolean isReady);
+    CompletableFuture<RoutineTodoInstanceVO> updateIsReady(UUID routineInstanceId, UUID routineTodoInstanceId, boolean isReady);
 
     void deleteById(UUID routineTodoId);
 }
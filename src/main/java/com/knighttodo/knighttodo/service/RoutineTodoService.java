@@ -1,5 +1,6 @@
 package com.knighttodo.knighttodo.service;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoVO;
 
 import java.util.List;
@@ -9,7 +10,7 @@ public interface RoutineTodoService {
 
     RoutineTodoVO save(UUID routineId, RoutineTodoVO routineTodoVO);
 
-    List<RoutineTodoVO> findAll();
+    PageVO<RoutineTodoVO> findAll(UUID cursor, int limit);
 
     RoutineTodoVO findById(UUID routineTodoId);
 
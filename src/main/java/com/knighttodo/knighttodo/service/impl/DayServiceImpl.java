@@ -1,6 +1,7 @@
 package com.knighttodo.knighttodo.service.impl;
 
 import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.exception.DayNotFoundException;
 import com.knighttodo.knighttodo.gateway.DayGateway;
 import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayMapper;
@@ -10,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -28,8 +28,8 @@ public class DayServiceImpl implements DayService {
     }
 
     @Override
-    public List<DayVO> findAll() {
-        return dayGateway.findAll();
+    public PageVO<DayVO> findAll(UUID cursor, int limit) {
+        return dayGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
@@ -40,6 +40,14 @@ public class DayServiceImpl implements DayService {
         });
     }
 
+    @Override
+    public DayVO findReferenceById(UUID dayId) {
+        return dayGateway.findReferenceById(dayId).orElseThrow(() -> {
+            log.error(String.format("Day with such id:%s can't be " + "found", dayId));
+            return new DayNotFoundException(String.format("Day with such id:%s can't be " + "found", dayId));
+        });
+    }
+
     @Override
     @Transactional
     public DayVO updateDay(UUID dayId, DayVO changedDayVO) {
@@ -1,19 +1,23 @@
 package com.knighttodo.knighttodo.service.impl;
 
 import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.exception.DayTodoNotFoundException;
 import com.knighttodo.knighttodo.exception.UnchangeableFieldUpdateException;
 import com.knighttodo.knighttodo.gateway.DayTodoGateway;
-import com.knighttodo.knighttodo.gateway.experience.ExperienceGateway;
 import com.knighttodo.knighttodo.service.DayService;
 import com.knighttodo.knighttodo.service.DayTodoService;
+import com.knighttodo.knighttodo.service.ExperienceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
@@ -23,7 +27,7 @@ public class DayTodoServiceImpl implements DayTodoService {
 
     private final DayService dayService;
     private final DayTodoGateway dayTodoGateway;
-    private final ExperienceGateway experienceGateway;
+    private final ExperienceService experienceService;
 
     @Override
     @Transactional
@@ -33,8 +37,16 @@ public class DayTodoServiceImpl implements DayTodoService {
     }
 
     @Override
-    public List<DayTodoVO> findAll() {
-        return dayTodoGateway.findAll();
+    @Transactional
+    public List<DayTodoVO> saveAll(UUID dayId, List<DayTodoVO> dayTodoVOs) {
+        DayVO dayVO = dayService.findReferenceById(dayId);
+        dayTodoVOs.forEach(dayTodoVO -> dayTodoVO.setDay(dayVO));
+        return dayTodoGateway.saveAll(dayTodoVOs);
+    }
+
+    @Override
+    public PageVO<DayTodoVO> findAll(UUID cursor, int limit) {
+        return dayTodoGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
@@ -83,12 +95,17 @@ public class DayTodoServiceImpl implements DayTodoService {
 
     @Override
     @Transactional
-    public DayTodoVO updateIsReady(UUID dayId, UUID dayTodoId, boolean isReady) {
-        DayTodoVO dayTodoVO = findById(dayTodoId);
-        dayTodoVO.setDay(dayService.findById(dayId));
-        dayTodoVO.setReady(isReady);
-        dayTodoVO = dayTodoGateway.save(dayTodoVO);
-        return experienceGateway.calculateExperience(dayTodoVO);
+    public CompletableFuture<DayTodoVO> updateIsReady(UUID dayId, UUID dayTodoId, boolean isReady) {
+        Optional<DayTodoVO> changedDayTodoVO = dayTodoGateway.updateReadyIfChanged(dayId, dayTodoId, isReady);
+        if (changedDayTodoVO.isPresent()) {
+            return experienceService.awardExperience(changedDayTodoVO.get());
+        }
+        return dayTodoGateway.findByIdAndDayId(dayTodoId, dayId)
+                .map(CompletableFuture::completedFuture)
+                .orElseThrow(() -> {
+                    log.error(String.format("Day Todo with such id:%s can't be found", dayTodoId));
+                    return new DayTodoNotFoundException(String.format("Day Todo with such id:%s can't be found", dayTodoId));
+                });
     }
 }
 
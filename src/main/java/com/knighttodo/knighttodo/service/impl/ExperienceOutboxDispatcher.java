@@ -0,0 +1,103 @@
+package com.knighttodo.knighttodo.service.impl;
+
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.gateway.experience.ExperienceGateway;
+import com.knighttodo.knighttodo.service.ExperienceOutboxService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Sends outbox entries to the experience service. {@link #dispatch(UUID)} is the fast path taken right after the
+ * ready flag commits; {@link #drain()} runs on every node and picks up whatever the fast path could not deliver.
+ */
+@Slf4j
+@Component
+public class ExperienceOutboxDispatcher {
+
+    private final ExperienceOutboxService experienceOutboxService;
+    private final ExperienceGateway experienceGateway;
+    private final int batchSize;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public ExperienceOutboxDispatcher(ExperienceOutboxService experienceOutboxService,
+                                      ExperienceGateway experienceGateway, MeterRegistry meterRegistry,
+                                      @Value("${experience.outbox.batch-size:100}") int batchSize) {
+        this.experienceOutboxService = experienceOutboxService;
+        this.experienceGateway = experienceGateway;
+        this.batchSize = batchSize;
+        Gauge.builder("experience.outbox.depth", depth, AtomicLong::doubleValue)
+                .description("Experience awards waiting in the outbox")
+                .register(meterRegistry);
+        TimeGauge.builder("experience.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest experience award waiting in the outbox")
+                .register(meterRegistry);
+    }
+
+    public Optional<Integer> dispatch(UUID entryId) {
+        return experienceOutboxService.claim(entryId).flatMap(this::send);
+    }
+
+    @Scheduled(fixedDelayString = "${experience.outbox.poll-interval:1000}")
+    public void drain() {
+        List<ExperienceOutboxEntryVO> entries;
+        do {
+            entries = experienceOutboxService.claimDue(batchSize);
+            send(entries);
+        } while (entries.size() == batchSize);
+        refreshMetrics();
+    }
+
+    private Optional<Integer> send(ExperienceOutboxEntryVO entry) {
+        return settle(entry, experienceGateway.calculateExperience(entry));
+    }
+
+    /**
+     * Submits the whole claimed batch before waiting on any of it, so the gateway can coalesce the calls.
+     */
+    private void send(List<ExperienceOutboxEntryVO> entries) {
+        List<CompletableFuture<Integer>> experiences = entries.stream()
+                .map(experienceGateway::calculateExperience)
+                .collect(Collectors.toList());
+        for (int i = 0; i < entries.size(); i++) {
+            settle(entries.get(i), experiences.get(i));
+        }
+    }
+
+    private Optional<Integer> settle(ExperienceOutboxEntryVO entry, CompletableFuture<Integer> experience) {
+        try {
+            int awarded = experience.join();
+            experienceOutboxService.complete(entry.getId());
+            return Optional.of(awarded);
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            experienceOutboxService.fail(entry, cause instanceof RuntimeException
+                    ? (RuntimeException) cause : new IllegalStateException(cause));
+            return Optional.empty();
+        }
+    }
+
+    private void refreshMetrics() {
+        depth.set(experienceOutboxService.count());
+        lagMillis.set(experienceOutboxService.findOldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, Instant.now()).toMillis()))
+                .orElse(0L));
+    }
+}
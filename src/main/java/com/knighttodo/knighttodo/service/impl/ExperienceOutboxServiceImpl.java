@@ -0,0 +1,114 @@
+package com.knighttodo.knighttodo.service.impl;
+
+import com.knighttodo.knighttodo.domain.ExperienceOutboxEntryVO;
+import com.knighttodo.knighttodo.domain.TodoVO;
+import com.knighttodo.knighttodo.gateway.ExperienceOutboxGateway;
+import com.knighttodo.knighttodo.service.ExperienceOutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Entries are claimed by pushing {@code next_attempt_at} one lease ahead in a short transaction, so the remote call
+ * happens without a connection or row lock held. A dispatcher that dies mid-call leaves the entry to be picked up
+ * again once the lease runs out; failed calls are rescheduled with exponential backoff.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ExperienceOutboxServiceImpl implements ExperienceOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ExperienceOutboxGateway experienceOutboxGateway;
+    private final Duration lease;
+    private final Duration maxBackoff;
+
+    public ExperienceOutboxServiceImpl(ExperienceOutboxGateway experienceOutboxGateway,
+                                       @Value("${experience.outbox.lease:30s}") Duration lease,
+                                       @Value("${experience.outbox.max-backoff:5m}") Duration maxBackoff) {
+        this.experienceOutboxGateway = experienceOutboxGateway;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ExperienceOutboxEntryVO append(TodoVO todoVO) {
+        Instant now = Instant.now();
+        ExperienceOutboxEntryVO entry = ExperienceOutboxEntryVO.builder()
+                .todoId(todoVO.getId())
+                .scariness(todoVO.getScariness())
+                .hardness(todoVO.getHardness())
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+        return experienceOutboxGateway.save(entry);
+    }
+
+    @Override
+    @Transactional
+    public List<ExperienceOutboxEntryVO> claimDue(int limit) {
+        Instant now = Instant.now();
+        List<ExperienceOutboxEntryVO> entries = experienceOutboxGateway.findDueForUpdate(now, limit);
+        if (!entries.isEmpty()) {
+            experienceOutboxGateway.lease(entries.stream().map(ExperienceOutboxEntryVO::getId)
+                    .collect(Collectors.toList()), now.plus(lease));
+            entries.forEach(entry -> entry.setAttempts(entry.getAttempts() + 1));
+        }
+        return entries;
+    }
+
+    @Override
+    @Transactional
+    public Optional<ExperienceOutboxEntryVO> claim(UUID entryId) {
+        Instant now = Instant.now();
+        Optional<ExperienceOutboxEntryVO> entry = experienceOutboxGateway.findDueByIdForUpdate(entryId, now);
+        entry.ifPresent(claimedEntry -> {
+            experienceOutboxGateway.lease(List.of(entryId), now.plus(lease));
+            claimedEntry.setAttempts(claimedEntry.getAttempts() + 1);
+        });
+        return entry;
+    }
+
+    @Override
+    @Transactional
+    public void complete(UUID entryId) {
+        experienceOutboxGateway.deleteById(entryId);
+    }
+
+    @Override
+    @Transactional
+    public void fail(ExperienceOutboxEntryVO entry, RuntimeException cause) {
+        Duration backoff = backoff(entry.getAttempts());
+        log.warn(String.format("Experience for todo %s hasn't been granted, attempt %d, retrying in %s",
+                entry.getTodoId(), entry.getAttempts(), backoff), cause);
+        String error = String.valueOf(cause.getMessage());
+        experienceOutboxGateway.reschedule(entry.getId(), Instant.now().plus(backoff),
+                error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+    }
+
+    @Override
+    public long count() {
+        return experienceOutboxGateway.count();
+    }
+
+    @Override
+    public Optional<Instant> findOldestCreatedAt() {
+        return experienceOutboxGateway.findOldestCreatedAt();
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = 1L << Math.min(Math.max(attempts, 1), 20);
+        return Duration.ofSeconds(seconds).compareTo(maxBackoff) < 0 ? Duration.ofSeconds(seconds) : maxBackoff;
+    }
+}
@@ -0,0 +1,91 @@
+package com.knighttodo.knighttodo.service.impl;
+
+import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
+import com.knighttodo.knighttodo.service.ExperienceOutboxService;
+import com.knighttodo.knighttodo.service.ExperienceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.knighttodo.knighttodo.configuration.AsyncConfig.EXPERIENCE_EXECUTOR;
+
+/**
+ * Writes the experience award to the outbox in the caller's transaction and, once that transaction has committed,
+ * tries to deliver it straight away on the experience executor. If the experience service can't be reached the
+ * award stays in the outbox for {@link ExperienceOutboxDispatcher} and the todo is answered with no experience yet.
+ */
+@Service
+@Slf4j
+public class ExperienceServiceImpl implements ExperienceService {
+
+    private final ExperienceOutboxService experienceOutboxService;
+    private final ExperienceOutboxDispatcher experienceOutboxDispatcher;
+    private final Executor experienceExecutor;
+
+    public ExperienceServiceImpl(ExperienceOutboxService experienceOutboxService,
+                                 ExperienceOutboxDispatcher experienceOutboxDispatcher,
+                                 @Qualifier(EXPERIENCE_EXECUTOR) Executor experienceExecutor) {
+        this.experienceOutboxService = experienceOutboxService;
+        this.experienceOutboxDispatcher = experienceOutboxDispatcher;
+        this.experienceExecutor = experienceExecutor;
+    }
+
+    @Override
+    public CompletableFuture<DayTodoVO> awardExperience(DayTodoVO dayTodoVO) {
+        UUID entryId = experienceOutboxService.append(dayTodoVO).getId();
+        return dispatchAfterCommit(entryId).thenApply(experience -> {
+            dayTodoVO.setExperience(experience);
+            return dayTodoVO;
+        });
+    }
+
+    @Override
+    public CompletableFuture<RoutineTodoInstanceVO> awardExperience(RoutineTodoInstanceVO routineTodoInstanceVO) {
+        UUID entryId = experienceOutboxService.append(routineTodoInstanceVO).getId();
+        return dispatchAfterCommit(entryId).thenApply(experience -> {
+            routineTodoInstanceVO.setExperience(experience);
+            return routineTodoInstanceVO;
+        });
+    }
+
+    private CompletableFuture<Integer> dispatchAfterCommit(UUID entryId) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+            @Override
+            public void afterCommit() {
+                try {
+                    CompletableFuture.supplyAsync(() -> experienceOutboxDispatcher.dispatch(entryId).orElse(0),
+                            experienceExecutor)
+                            .whenComplete((experience, ex) -> {
+                                if (ex != null) {
+                                    result.completeExceptionally(ex);
+                                } else {
+                                    result.complete(experience);
+                                }
+                            });
+                } catch (RejectedExecutionException ex) {
+                    log.warn("Experience dispatch has been rejected, leaving it to the outbox dispatcher.", ex);
+                    result.complete(0);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    result.completeExceptionally(
+                            new IllegalStateException("Transaction hasn't been committed, experience isn't awarded"));
+                }
+            }
+        });
+        return result;
+    }
+}
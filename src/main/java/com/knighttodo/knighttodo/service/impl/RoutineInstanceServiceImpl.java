@@ -1,7 +1,7 @@
 package com.knighttodo.knighttodo.service.impl;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
-import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
 import com.knighttodo.knighttodo.domain.RoutineVO;
 import com.knighttodo.knighttodo.exception.RoutineInstanceNotFoundException;
 import com.knighttodo.knighttodo.gateway.RoutineInstanceGateway;
@@ -12,7 +12,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -33,22 +32,18 @@ public class RoutineInstanceServiceImpl implements RoutineInstanceService {
     }
 
     @Override
-    public List<RoutineInstanceVO> findAll() {
-        return routineInstanceGateway.findAll();
+    public PageVO<RoutineInstanceVO> findAll(UUID cursor, int limit) {
+        return routineInstanceGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
-    @Transactional
     public RoutineInstanceVO findById(UUID routineInstanceId) {
-        RoutineInstanceVO routineInstanceVO = routineInstanceGateway.findById(routineInstanceId)
+        return routineInstanceGateway.findById(routineInstanceId)
                 .orElseThrow(() -> {
                     log.error(String.format("Routine Instance with such id:%s can't be " + "found", routineInstanceId));
                     return new RoutineInstanceNotFoundException(
                             String.format("Routine Instance with such id:%s can't be " + "found", routineInstanceId));
                 });
-        List<RoutineTodoInstanceVO> routineTodoInstances = routineInstanceVO.getRoutineTodoInstances();
-        routineService.updateRoutineTodoInstances(routineInstanceVO.getRoutine().getId(), routineTodoInstances);
-        return routineInstanceVO;
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.knighttodo.knighttodo.service.impl;
 
-import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
-import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineVO;
 import com.knighttodo.knighttodo.exception.RoutineNotFoundException;
 import com.knighttodo.knighttodo.gateway.RoutineGateway;
@@ -11,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -29,8 +27,8 @@ public class RoutineServiceImpl implements RoutineService {
     }
 
     @Override
-    public List<RoutineVO> findAll() {
-        return routineGateway.findAll();
+    public PageVO<RoutineVO> findAll(UUID cursor, int limit) {
+        return routineGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
@@ -60,22 +58,4 @@ public class RoutineServiceImpl implements RoutineService {
         routineGateway.deleteAllRoutineTodosByRoutineId(routineId);
         routineGateway.deleteById(routineId);
     }
-
-    @Override
-    @Transactional
-    public List<RoutineTodoInstanceVO> updateRoutineTodoInstances(UUID routineId,
-                                                                  List<RoutineTodoInstanceVO> routineTodoInstanceVOs) {
-        RoutineVO routineVO = findById(routineId);
-        List<RoutineTodoVO> routineTodoVOs = routineVO.getRoutineTodos();
-        for (RoutineTodoVO routineTodoVO : routineTodoVOs) {
-            routineTodoInstanceVOs.forEach(routineTodoInstanceVO -> {
-                if (routineTodoInstanceVO.getRoutineTodo().getId().equals(routineTodoVO.getId())) {
-                    routineTodoInstanceVO.setHardness(routineTodoVO.getHardness());
-                    routineTodoInstanceVO.setScariness(routineTodoVO.getScariness());
-                    routineTodoInstanceVO.setRoutineTodoName(routineTodoVO.getRoutineTodoName());
-                }
-            });
-        }
-        return routineTodoInstanceVOs;
-    }
 }
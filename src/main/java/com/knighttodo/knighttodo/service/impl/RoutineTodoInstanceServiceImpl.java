@@ -1,10 +1,10 @@
 package com.knighttodo.knighttodo.service.impl;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoInstanceVO;
-import com.knighttodo.knighttodo.domain.RoutineTodoVO;
 import com.knighttodo.knighttodo.exception.RoutineTodoNotFoundException;
 import com.knighttodo.knighttodo.gateway.RoutineTodoInstanceGateway;
-import com.knighttodo.knighttodo.gateway.experience.ExperienceGateway;
+import com.knighttodo.knighttodo.service.ExperienceService;
 import com.knighttodo.knighttodo.service.RoutineInstanceService;
 import com.knighttodo.knighttodo.service.RoutineTodoInstanceService;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +13,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
@@ -23,7 +25,7 @@ public class RoutineTodoInstanceServiceImpl implements RoutineTodoInstanceServic
 
     private final RoutineTodoInstanceGateway routineTodoInstanceGateway;
     private final RoutineInstanceService routineInstanceService;
-    private final ExperienceGateway experienceGateway;
+    private final ExperienceService experienceService;
 
     @Override
     @Transactional
@@ -35,29 +37,18 @@ public class RoutineTodoInstanceServiceImpl implements RoutineTodoInstanceServic
     }
 
     @Override
-    public List<RoutineTodoInstanceVO> findAll() {
-        return routineTodoInstanceGateway.findAll();
+    public PageVO<RoutineTodoInstanceVO> findAll(UUID cursor, int limit) {
+        return routineTodoInstanceGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
-    @Transactional
     public RoutineTodoInstanceVO findById(UUID routineTodoInstanceId) {
-        RoutineTodoInstanceVO routineTodoInstanceVO = routineTodoInstanceGateway.findById(routineTodoInstanceId)
+        return routineTodoInstanceGateway.findById(routineTodoInstanceId)
                 .orElseThrow(() -> {
                     log.error(String.format("Routine Todo Instance with such id:%s can't be found", routineTodoInstanceId));
                     return new RoutineTodoNotFoundException(String
                             .format("Routine Todo Instance with such id:%s can't be found", routineTodoInstanceId));
                 });
-        return synchronizeWithRoutineTodoAndReturn(routineTodoInstanceVO);
-    }
-
-    private RoutineTodoInstanceVO synchronizeWithRoutineTodoAndReturn(RoutineTodoInstanceVO routineTodoInstanceVO) {
-        RoutineTodoVO routineTodoVO = routineTodoInstanceVO.getRoutineTodoVO();
-        routineTodoInstanceVO.setRoutineTodoName(routineTodoVO.getRoutineTodoName());
-        routineTodoInstanceVO.setHardness(routineTodoVO.getHardness());
-        routineTodoInstanceVO.setScariness(routineTodoVO.getScariness());
-        routineTodoInstanceGateway.save(routineTodoInstanceVO);
-        return routineTodoInstanceVO;
     }
 
     @Override
@@ -73,11 +64,19 @@ public class RoutineTodoInstanceServiceImpl implements RoutineTodoInstanceServic
 
     @Override
     @Transactional
-    public RoutineTodoInstanceVO updateIsReady(UUID routineId, UUID routineTodoId, boolean isReady) {
-        RoutineTodoInstanceVO routineTodoInstanceVO = findById(routineTodoId);
-        routineTodoInstanceVO.setRoutineInstanceVO(routineInstanceService.findById(routineId));
-        routineTodoInstanceVO.setReady(isReady);
-        routineTodoInstanceGateway.save(routineTodoInstanceVO);
-        return experienceGateway.calculateExperience(routineTodoInstanceVO);
+    public CompletableFuture<RoutineTodoInstanceVO> updateIsReady(UUID routineId, UUID routineTodoId,
+                                                                  boolean isReady) {
+        Optional<RoutineTodoInstanceVO> changedRoutineTodoInstanceVO = routineTodoInstanceGateway
+                .updateReadyIfChanged(routineId, routineTodoId, isReady);
+        if (changedRoutineTodoInstanceVO.isPresent()) {
+            return experienceService.awardExperience(changedRoutineTodoInstanceVO.get());
+        }
+        return routineTodoInstanceGateway.findByIdAndRoutineInstanceId(routineTodoId, routineId)
+                .map(CompletableFuture::completedFuture)
+                .orElseThrow(() -> {
+                    log.error(String.format("Routine Todo Instance with such id:%s can't be found", routineTodoId));
+                    return new RoutineTodoNotFoundException(String
+                            .format("Routine Todo Instance with such id:%s can't be found", routineTodoId));
+                });
     }
 }
@@ -1,5 +1,6 @@
 package com.knighttodo.knighttodo.service.impl;
 
+import com.knighttodo.knighttodo.domain.PageVO;
 import com.knighttodo.knighttodo.domain.RoutineTodoVO;
 import com.knighttodo.knighttodo.exception.RoutineTodoNotFoundException;
 import com.knighttodo.knighttodo.exception.UnchangeableFieldUpdateException;
@@ -33,8 +34,8 @@ public class RoutineTodoServiceImpl implements RoutineTodoService {
     }
 
     @Override
-    public List<RoutineTodoVO> findAll() {
-        return routineTodoGateway.findAll();
+    public PageVO<RoutineTodoVO> findAll(UUID cursor, int limit) {
+        return routineTodoGateway.findAll(cursor, PageVO.boundedLimit(limit));
     }
 
     @Override
@@ -57,7 +58,9 @@ public class RoutineTodoServiceImpl implements RoutineTodoService {
         routineTodoVO.setRoutineTodoName(changedRoutineTodoVO.getRoutineTodoName());
         routineTodoVO.setScariness(changedRoutineTodoVO.getScariness());
         routineTodoVO.setHardness(changedRoutineTodoVO.getHardness());
-        return routineTodoGateway.save(routineTodoVO);
+        RoutineTodoVO updatedRoutineTodoVO = routineTodoGateway.save(routineTodoVO);
+        routineTodoGateway.updateNotReadyRoutineTodoInstances(updatedRoutineTodoVO);
+        return updatedRoutineTodoVO;
     }
 
     private void checkUpdatePossibility(RoutineTodoVO routineTodoVO, RoutineTodoVO changedRoutineTodoVO) {
@@ -0,0 +1,102 @@
+package com.knighttodo.knighttodo.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Opens a span named {@code Type.method} around every resource handler, service and gateway method, experience client
+ * call and repository query, so a slow request shows which layer the time went to. Methods answering with a
+ * {@link CompletionStage} keep their span open until the stage completes.
+ * <p>
+ * These spans only ever join a trace that is already open, such as the server span of a request. Calls made with no
+ * current span, like the scheduled outbox drain or the experience matrix refresh, run untraced instead of starting a
+ * new root trace on every poll.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private static final String DB_SYSTEM = "postgresql";
+
+    private final Tracer tracer;
+
+    @Around("execution(public * *(..)) && (within(com.knighttodo.knighttodo.rest..*Resource) "
+            + "|| within(com.knighttodo.knighttodo.service..*) "
+            + "|| within(com.knighttodo.knighttodo.gateway..*Gateway) "
+            + "|| within(com.knighttodo.knighttodo.gateway..*GatewayImpl) "
+            + "|| within(com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient))")
+    public Object traceComponent(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!insideTrace()) {
+            return joinPoint.proceed();
+        }
+        Span span = tracer.spanBuilder(ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "."
+                + joinPoint.getSignature().getName())
+                .startSpan();
+        return proceed(joinPoint, span);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!insideTrace()) {
+            return joinPoint.proceed();
+        }
+        Span span = tracer.spanBuilder(repositoryName(joinPoint.getTarget()) + "." + joinPoint.getSignature().getName())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(SemanticAttributes.DB_SYSTEM, DB_SYSTEM)
+                .startSpan();
+        return proceed(joinPoint, span);
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, Span span) throws Throwable {
+        Object result;
+        try (Scope scope = span.makeCurrent()) {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            end(span, ex);
+            throw ex;
+        }
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<?>) result).whenComplete((value, ex) -> end(span,
+                    ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+        } else {
+            end(span, null);
+        }
+        return result;
+    }
+
+    private static boolean insideTrace() {
+        return Span.current().getSpanContext().isValid();
+    }
+
+    private static void end(Span span, Throwable ex) {
+        if (ex != null) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+
+    private static String repositoryName(Object repository) {
+        if (Proxy.isProxyClass(repository.getClass())) {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(repository);
+            return interfaces.length > 0 ? interfaces[0].getSimpleName() : "Repository";
+        }
+        return ClassUtils.getUserClass(repository).getSimpleName();
+    }
+}
@@ -0,0 +1,107 @@
+package com.knighttodo.knighttodo.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+
+/**
+ * Opens a server span for every API request, continuing the trace of an incoming W3C {@code traceparent} header.
+ * The span is current while the request is handled and, for asynchronous handlers, ends on the async dispatch, so it
+ * covers the whole exchange. Once the handler is resolved the span is renamed after the route, e.g.
+ * {@code PUT /api/v1/days/{dayId}/todos/{todoId}/ready}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    private static final String SPAN_ATTRIBUTE = TracingFilter.class.getName() + ".SPAN";
+    private static final TextMapGetter<HttpServletRequest> HEADERS = new TextMapGetter<>() {
+
+        @Override
+        public Iterable<String> keys(HttpServletRequest request) {
+            return Collections.list(request.getHeaderNames());
+        }
+
+        @Override
+        public String get(HttpServletRequest request, String name) {
+            return request == null ? null : request.getHeader(name);
+        }
+    };
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_BASE_URL);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Span span = (Span) request.getAttribute(SPAN_ATTRIBUTE);
+        if (span == null) {
+            Context parent = openTelemetry.getPropagators().getTextMapPropagator()
+                    .extract(Context.current(), request, HEADERS);
+            span = tracer.spanBuilder(request.getMethod())
+                    .setParent(parent)
+                    .setSpanKind(SpanKind.SERVER)
+                    .setAttribute(SemanticAttributes.HTTP_METHOD, request.getMethod())
+                    .setAttribute(SemanticAttributes.HTTP_TARGET, request.getRequestURI())
+                    .startSpan();
+            request.setAttribute(SPAN_ATTRIBUTE, span);
+        }
+
+        try (Scope scope = span.makeCurrent()) {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            end(span, request, response);
+            throw ex;
+        }
+        if (!isAsyncStarted(request)) {
+            end(span, request, response);
+        }
+    }
+
+    private void end(Span span, HttpServletRequest request, HttpServletResponse response) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (route != null) {
+            span.updateName(request.getMethod() + " " + route);
+            span.setAttribute(SemanticAttributes.HTTP_ROUTE, route.toString());
+        }
+        span.setAttribute(SemanticAttributes.HTTP_STATUS_CODE, (long) response.getStatus());
+        if (response.getStatus() >= 500) {
+            span.setStatus(StatusCode.ERROR);
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,67 @@
+package com.knighttodo.knighttodo.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+
+/**
+ * Adds a client span to every call made through a {@link RestTemplate} built by the application's builder, and passes
+ * the trace on to the called service in W3C {@code traceparent} and {@code tracestate} headers.
+ */
+@Component
+@RequiredArgsConstructor
+public class TracingRestTemplateCustomizer implements RestTemplateCustomizer, ClientHttpRequestInterceptor {
+
+    private static final TextMapSetter<HttpHeaders> HEADERS = (headers, name, value) -> headers.set(name, value);
+
+    private final OpenTelemetry openTelemetry;
+    private final Tracer tracer;
+
+    @Override
+    public void customize(RestTemplate restTemplate) {
+        restTemplate.getInterceptors().add(this);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Span span = tracer.spanBuilder(request.getMethodValue() + " " + request.getURI().getPath())
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(SemanticAttributes.HTTP_METHOD, request.getMethodValue())
+                .setAttribute(SemanticAttributes.HTTP_URL, request.getURI().toString())
+                .startSpan();
+        try (Scope scope = span.makeCurrent()) {
+            openTelemetry.getPropagators().getTextMapPropagator().inject(Context.current(), request.getHeaders(),
+                    HEADERS);
+            ClientHttpResponse response = execution.execute(request, body);
+            span.setAttribute(SemanticAttributes.HTTP_STATUS_CODE, (long) response.getRawStatusCode());
+            if (response.getRawStatusCode() >= 400) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            return response;
+        } catch (IOException | RuntimeException ex) {
+            span.recordException(ex);
+            span.setStatus(StatusCode.ERROR);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -1,3 +0,0 @@
-insert into day (day_name) values ('firstDay');
-
-insert into day (day_name) values ('secondDay');
\ No newline at end of file
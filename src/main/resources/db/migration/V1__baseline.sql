@@ -0,0 +1,58 @@
+-- Schema as previously generated by hibernate ddl-auto: create. Routine todo instances still share the
+-- routine_todo table with their templates. Existing databases are baselined at this version.
+
+create table day
+(
+    id       uuid not null,
+    day_name varchar(255),
+    constraint pk_day primary key (id)
+);
+
+create table day_todo
+(
+    id            uuid    not null,
+    day_todo_name varchar(255),
+    hardness      varchar(255),
+    ready         boolean not null,
+    scaryness     varchar(255),
+    day_id        uuid,
+    constraint pk_day_todo primary key (id),
+    constraint fk_day_todo_day foreign key (day_id) references day (id)
+);
+
+create table routine
+(
+    id        uuid not null,
+    hardness  varchar(255),
+    name      varchar(255),
+    scariness varchar(255),
+    constraint pk_routine primary key (id)
+);
+
+create table routine_instance
+(
+    id         uuid    not null,
+    hardness   varchar(255),
+    name       varchar(255),
+    ready      boolean not null,
+    scariness  varchar(255),
+    routine_id uuid,
+    constraint pk_routine_instance primary key (id),
+    constraint fk_routine_instance_routine foreign key (routine_id) references routine (id)
+);
+
+create table routine_todo
+(
+    id                  uuid    not null,
+    hardness            varchar(255),
+    ready               boolean not null,
+    routine_todo_name   varchar(255),
+    scaryness           varchar(255),
+    routine_id          uuid,
+    routine_instance_id uuid,
+    routine_todo_id     uuid,
+    constraint pk_routine_todo primary key (id),
+    constraint fk_routine_todo_routine foreign key (routine_id) references routine (id),
+    constraint fk_routine_todo_routine_instance foreign key (routine_instance_id) references routine_instance (id),
+    constraint fk_routine_todo_routine_todo foreign key (routine_todo_id) references routine_todo (id)
+);
@@ -0,0 +1,40 @@
+-- Move routine todo instances out of routine_todo into their own table and index every foreign key used for
+-- lookups. Templates never reference a routine instance or another routine todo, so any row that does is an
+-- instance.
+
+create table routine_todo_instance
+(
+    id                  uuid    not null,
+    routine_todo_name   varchar(255),
+    scaryness           varchar(255),
+    hardness            varchar(255),
+    ready               boolean not null,
+    routine_instance_id uuid,
+    routine_todo_id     uuid,
+    constraint pk_routine_todo_instance primary key (id),
+    constraint fk_routine_todo_instance_routine_instance
+        foreign key (routine_instance_id) references routine_instance (id),
+    constraint fk_routine_todo_instance_routine_todo foreign key (routine_todo_id) references routine_todo (id)
+);
+
+insert into routine_todo_instance (id, routine_todo_name, scaryness, hardness, ready, routine_instance_id,
+                                   routine_todo_id)
+select id, routine_todo_name, scaryness, hardness, ready, routine_instance_id, routine_todo_id
+from routine_todo
+where routine_instance_id is not null
+   or routine_todo_id is not null;
+
+delete
+from routine_todo
+where routine_instance_id is not null
+   or routine_todo_id is not null;
+
+alter table routine_todo
+    drop column routine_instance_id,
+    drop column routine_todo_id;
+
+create index idx_day_todo_day_id on day_todo (day_id);
+create index idx_routine_todo_routine_id on routine_todo (routine_id);
+create index idx_routine_instance_routine_id on routine_instance (routine_id);
+create index idx_routine_todo_instance_routine_instance_id on routine_todo_instance (routine_instance_id);
+create index idx_routine_todo_instance_routine_todo_id on routine_todo_instance (routine_todo_id);
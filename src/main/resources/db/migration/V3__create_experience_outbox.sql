@@ -0,0 +1,16 @@
+-- Experience awards written in the same transaction as the ready flag and drained by the outbox dispatcher.
+
+create table experience_outbox
+(
+    id              uuid      not null,
+    todo_id         uuid      not null,
+    scaryness       varchar(255),
+    hardness        varchar(255),
+    created_at      timestamp not null,
+    next_attempt_at timestamp not null,
+    attempts        integer   not null,
+    last_error      varchar(1000),
+    constraint pk_experience_outbox primary key (id)
+);
+
+create index idx_experience_outbox_next_attempt_at on experience_outbox (next_attempt_at);
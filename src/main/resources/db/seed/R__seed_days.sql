@@ -0,0 +1,6 @@
+-- Development seed, applied only with the dev profile.
+
+insert into day (id, day_name)
+values ('4c0e4a4e-5d0c-4c5e-9a55-0c7b1f0c6a01', 'firstDay'),
+       ('4c0e4a4e-5d0c-4c5e-9a55-0c7b1f0c6a02', 'secondDay')
+on conflict (id) do nothing;
@@ -74,6 +74,14 @@ public class TestConstants {
         return JSON_ROOT + "length()";
     }
 
+    public static String buildJsonPathToContentLength() {
+        return JSON_ROOT + "content.length()";
+    }
+
+    public static String buildJsonPathToNext() {
+        return JSON_ROOT + "next";
+    }
+
     public static String buildJsonPathToTodoName() {
         return JSON_ROOT + "dayTodoName";
     }
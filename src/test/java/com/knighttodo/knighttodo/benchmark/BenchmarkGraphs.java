@@ -0,0 +1,92 @@
+package com.knighttodo.knighttodo.benchmark;
+
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodo;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Fully populated entity graphs as the gateways see them after loading, with every id set and every todo pointing
+ * back at its parent.
+ */
+public class BenchmarkGraphs {
+
+    private static final String[] MAPPER_PACKAGES = {"com.knighttodo.knighttodo.gateway.privatedb.mapper",
+            "com.knighttodo.knighttodo.rest.mapper"};
+
+    private BenchmarkGraphs() {
+    }
+
+    public static AnnotationConfigApplicationContext mappers() {
+        return new AnnotationConfigApplicationContext(MAPPER_PACKAGES);
+    }
+
+    public static Day day(int todos) {
+        Day day = Day.builder().id(UUID.randomUUID()).dayName("Sunday Todos").dayTodos(new ArrayList<>()).build();
+        for (int i = 0; i < todos; i++) {
+            day.getDayTodos().add(DayTodo.builder()
+                    .id(UUID.randomUUID())
+                    .dayTodoName("Write integration tests " + i)
+                    .hardness(Hardness.values()[i % Hardness.values().length])
+                    .scariness(Scariness.values()[i % Scariness.values().length])
+                    .ready(i % 2 == 0)
+                    .day(day)
+                    .build());
+        }
+        return day;
+    }
+
+    public static RoutineInstance routineInstance(int todos) {
+        Routine routine = Routine.builder()
+                .id(UUID.randomUUID())
+                .name("Morning routine")
+                .hardness(Hardness.HARD)
+                .scariness(Scariness.SCARY)
+                .routineInstances(new ArrayList<>())
+                .routineTodos(new ArrayList<>())
+                .build();
+        RoutineInstance routineInstance = RoutineInstance.builder()
+                .id(UUID.randomUUID())
+                .name("Monday morning")
+                .hardness(Hardness.HARD)
+                .scariness(Scariness.SCARY)
+                .routine(routine)
+                .routineTodoInstances(new ArrayList<>())
+                .build();
+        routine.getRoutineInstances().add(routineInstance);
+
+        for (int i = 0; i < todos; i++) {
+            Hardness hardness = Hardness.values()[i % Hardness.values().length];
+            Scariness scariness = Scariness.values()[i % Scariness.values().length];
+            RoutineTodo routineTodo = RoutineTodo.builder()
+                    .id(UUID.randomUUID())
+                    .routineTodoName("Stretch " + i)
+                    .hardness(hardness)
+                    .scariness(scariness)
+                    .routine(routine)
+                    .routineTodoInstances(new ArrayList<>())
+                    .build();
+            RoutineTodoInstance routineTodoInstance = RoutineTodoInstance.builder()
+                    .id(UUID.randomUUID())
+                    .routineTodoName(routineTodo.getRoutineTodoName())
+                    .hardness(hardness)
+                    .scariness(scariness)
+                    .ready(i % 2 == 0)
+                    .routineInstance(routineInstance)
+                    .routineTodo(routineTodo)
+                    .build();
+            routine.getRoutineTodos().add(routineTodo);
+            routineTodo.getRoutineTodoInstances().add(routineTodoInstance);
+            routineInstance.getRoutineTodoInstances().add(routineTodoInstance);
+        }
+        return routineInstance;
+    }
+}
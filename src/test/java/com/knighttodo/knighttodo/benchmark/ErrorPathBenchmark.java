@@ -0,0 +1,98 @@
+package com.knighttodo.knighttodo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knighttodo.knighttodo.configuration.RestConfig;
+import com.knighttodo.knighttodo.exception.DayNotFoundException;
+import com.knighttodo.knighttodo.exception.FindDayByIdException;
+import com.knighttodo.knighttodo.exception.handling.GlobalExceptionHandler;
+import com.knighttodo.knighttodo.validation.annotation.ValidReady;
+import com.knighttodo.knighttodo.validation.validator.ReadyValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.ValidatorFactory;
+import javax.validation.executable.ExecutableValidator;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The rejection path of a request: {@link ReadyValidator} through Bean Validation for accepted and rejected values,
+ * and {@link GlobalExceptionHandler} turning a failed lookup into a serialized error response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private ExecutableValidator executableValidator;
+    private Method readyMethod;
+    private ReadyResource readyResource;
+    private GlobalExceptionHandler globalExceptionHandler;
+    private WebRequest webRequest;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        executableValidator = validatorFactory.getValidator().forExecutables();
+        readyMethod = ReadyResource.class.getMethod("updateReady", String.class);
+        readyResource = new ReadyResource();
+        globalExceptionHandler = new GlobalExceptionHandler();
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("PUT", "/api/v1/days/1/todos/1/ready"));
+        objectMapper = new RestConfig().objectMapper();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ReadyResource>> validReady() {
+        return executableValidator.validateParameters(readyResource, readyMethod, new Object[]{"TRUE"});
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ReadyResource>> invalidReady() {
+        return executableValidator.validateParameters(readyResource, readyMethod, new Object[]{"maybe"});
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> notFound() {
+        return globalExceptionHandler.handleCustomRuntimeException(new FindDayByIdException("Can't find day",
+                new DayNotFoundException("Day with such id:1 can't be found")), webRequest);
+    }
+
+    @Benchmark
+    public byte[] notFoundSerialized() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notFound().getBody());
+    }
+
+    public static class ReadyResource {
+
+        public void updateReady(@ValidReady String ready) {
+        }
+    }
+}
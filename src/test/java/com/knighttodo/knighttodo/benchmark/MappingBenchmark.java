@@ -0,0 +1,138 @@
+package com.knighttodo.knighttodo.benchmark;
+
+import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.domain.RoutineInstanceVO;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayTodoMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineInstanceMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineTodoInstanceMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
+import com.knighttodo.knighttodo.rest.mapper.DayRestMapper;
+import com.knighttodo.knighttodo.rest.mapper.DayTodoRestMapper;
+import com.knighttodo.knighttodo.rest.mapper.RoutineInstanceRestMapper;
+import com.knighttodo.knighttodo.rest.mapper.RoutineTodoInstanceRestMapper;
+import com.knighttodo.knighttodo.rest.response.DayResponseDto;
+import com.knighttodo.knighttodo.rest.response.DayTodoResponseDto;
+import com.knighttodo.knighttodo.rest.response.RoutineInstanceResponseDto;
+import com.knighttodo.knighttodo.rest.response.RoutineTodoInstanceResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to VO to response DTO mapping, the way the gateways and resources chain the MapStruct mappers, for graphs of
+ * {@code todos} children.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int todos;
+
+    private AnnotationConfigApplicationContext mappers;
+    private DayMapper dayMapper;
+    private DayTodoMapper dayTodoMapper;
+    private RoutineInstanceMapper routineInstanceMapper;
+    private RoutineTodoInstanceMapper routineTodoInstanceMapper;
+    private DayRestMapper dayRestMapper;
+    private DayTodoRestMapper dayTodoRestMapper;
+    private RoutineInstanceRestMapper routineInstanceRestMapper;
+    private RoutineTodoInstanceRestMapper routineTodoInstanceRestMapper;
+
+    private Day day;
+    private RoutineInstance routineInstance;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mappers = BenchmarkGraphs.mappers();
+        dayMapper = mappers.getBean(DayMapper.class);
+        dayTodoMapper = mappers.getBean(DayTodoMapper.class);
+        routineInstanceMapper = mappers.getBean(RoutineInstanceMapper.class);
+        routineTodoInstanceMapper = mappers.getBean(RoutineTodoInstanceMapper.class);
+        dayRestMapper = mappers.getBean(DayRestMapper.class);
+        dayTodoRestMapper = mappers.getBean(DayTodoRestMapper.class);
+        routineInstanceRestMapper = mappers.getBean(RoutineInstanceRestMapper.class);
+        routineTodoInstanceRestMapper = mappers.getBean(RoutineTodoInstanceRestMapper.class);
+
+        day = BenchmarkGraphs.day(todos);
+        routineInstance = BenchmarkGraphs.routineInstance(todos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public DayVO dayToVO() {
+        return dayMapper.toDayVO(day);
+    }
+
+    @Benchmark
+    public DayResponseDto dayToResponse() {
+        return dayRestMapper.toDayResponseDto(dayMapper.toDayVO(day));
+    }
+
+    @Benchmark
+    public List<DayTodoVO> dayTodosToVOsWithDayReference() {
+        return day.getDayTodos().stream()
+                .map(dayTodoMapper::toTodoVOWithDayReference)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<DayTodoVO> dayTodosToVOsWithFullDay() {
+        return day.getDayTodos().stream()
+                .map(dayTodoMapper::toTodoVO)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<DayTodoResponseDto> dayTodosToResponses() {
+        return day.getDayTodos().stream()
+                .map(dayTodoMapper::toTodoVOWithDayReference)
+                .map(dayTodoRestMapper::toDayTodoResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public RoutineInstanceVO routineInstanceToVO() {
+        return routineInstanceMapper.toRoutineInstanceVO(routineInstance);
+    }
+
+    @Benchmark
+    public RoutineInstanceResponseDto routineInstanceToResponse() {
+        return routineInstanceRestMapper.toRoutineInstanceResponseDto(
+                routineInstanceMapper.toRoutineInstanceVO(routineInstance));
+    }
+
+    @Benchmark
+    public List<RoutineTodoInstanceResponseDto> routineTodoInstancesToResponses() {
+        return routineInstance.getRoutineTodoInstances().stream()
+                .map(routineTodoInstanceMapper::toRoutineTodoInstanceVO)
+                .map(routineTodoInstanceRestMapper::toRoutineTodoInstanceResponseDto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.knighttodo.knighttodo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knighttodo.knighttodo.configuration.RestConfig;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.DayTodoMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineInstanceMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.mapper.RoutineTodoInstanceMapper;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
+import com.knighttodo.knighttodo.rest.mapper.DayTodoRestMapper;
+import com.knighttodo.knighttodo.rest.mapper.RoutineInstanceRestMapper;
+import com.knighttodo.knighttodo.rest.mapper.RoutineTodoInstanceRestMapper;
+import com.knighttodo.knighttodo.rest.response.DayTodoResponseDto;
+import com.knighttodo.knighttodo.rest.response.PageResponseDto;
+import com.knighttodo.knighttodo.rest.response.RoutineInstanceResponseDto;
+import com.knighttodo.knighttodo.rest.response.RoutineTodoInstanceResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of the response DTOs with the application's {@link ObjectMapper}, for responses carrying
+ * {@code todos} todos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int todos;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<DayTodoResponseDto> dayTodoPage;
+    private RoutineInstanceResponseDto routineInstanceResponse;
+    private List<RoutineTodoInstanceResponseDto> routineTodoInstanceResponses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new RestConfig().objectMapper();
+
+        Day day = BenchmarkGraphs.day(todos);
+        RoutineInstance routineInstance = BenchmarkGraphs.routineInstance(todos);
+        try (AnnotationConfigApplicationContext mappers = BenchmarkGraphs.mappers()) {
+            DayTodoMapper dayTodoMapper = mappers.getBean(DayTodoMapper.class);
+            DayTodoRestMapper dayTodoRestMapper = mappers.getBean(DayTodoRestMapper.class);
+            RoutineTodoInstanceMapper routineTodoInstanceMapper = mappers.getBean(RoutineTodoInstanceMapper.class);
+            RoutineTodoInstanceRestMapper routineTodoInstanceRestMapper =
+                    mappers.getBean(RoutineTodoInstanceRestMapper.class);
+
+            dayTodoPage = new PageResponseDto<>(day.getDayTodos().stream()
+                    .map(dayTodoMapper::toTodoVOWithDayReference)
+                    .map(dayTodoRestMapper::toDayTodoResponseDto)
+                    .collect(Collectors.toList()), day.getDayTodos().get(day.getDayTodos().size() - 1).getId());
+            routineInstanceResponse = mappers.getBean(RoutineInstanceRestMapper.class).toRoutineInstanceResponseDto(
+                    mappers.getBean(RoutineInstanceMapper.class).toRoutineInstanceVO(routineInstance));
+            routineTodoInstanceResponses = routineInstance.getRoutineTodoInstances().stream()
+                    .map(routineTodoInstanceMapper::toRoutineTodoInstanceVO)
+                    .map(routineTodoInstanceRestMapper::toRoutineTodoInstanceResponseDto)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Benchmark
+    public byte[] dayTodoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dayTodoPage);
+    }
+
+    @Benchmark
+    public byte[] routineInstance() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(routineInstanceResponse);
+    }
+
+    @Benchmark
+    public byte[] routineTodoInstances() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(routineTodoInstanceResponses);
+    }
+}
@@ -0,0 +1,127 @@
+package com.knighttodo.knighttodo.configuration;
+
+import com.knighttodo.knighttodo.gateway.experience.client.AdaptiveReadTimeout;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("load")
+public class ExperienceHttpClientBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 250;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 8;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer experienceServer;
+    private ExecutorService callers;
+
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        experienceServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        experienceServer.createContext("/api/experience", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"experience\":37}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        experienceServer.setExecutor(Executors.newFixedThreadPool(THREADS));
+        experienceServer.start();
+        callers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        experienceServer.stop(0);
+    }
+
+    @Test
+    public void pooledClient_shouldStayWithinPerRouteLimit_whenCallersOutnumberConnections() throws Exception {
+        RestConfig restConfig = new RestConfig();
+        PoolingHttpClientConnectionManager connectionManager = restConfig.experienceConnectionManager(
+                MAX_CONNECTIONS_PER_ROUTE, MAX_CONNECTIONS_PER_ROUTE, Duration.ofSeconds(2));
+        RequestConfig requestConfig = restConfig.experienceRequestConfig(Duration.ofSeconds(1), Duration.ofSeconds(3),
+                Duration.ofSeconds(5));
+        AdaptiveReadTimeout adaptiveReadTimeout = new AdaptiveReadTimeout(new SimpleMeterRegistry(), 0.99, 2.0, 50,
+                Duration.ofMillis(100), Duration.ofSeconds(3));
+        try (CloseableHttpClient httpClient = restConfig.experienceHttpClient(connectionManager, requestConfig,
+                Duration.ofSeconds(30), Duration.ofSeconds(30))) {
+            RestTemplate pooled = restConfig.restTemplate(new RestTemplateBuilder(), httpClient, requestConfig,
+                    adaptiveReadTimeout);
+            RestTemplate unpooled = new RestTemplate();
+
+            measure(unpooled);
+            measure(pooled);
+            clientPorts.clear();
+            long unpooledNanos = measure(unpooled);
+            int unpooledConnections = clientPorts.size();
+            clientPorts.clear();
+            long pooledNanos = measure(pooled);
+            int pooledConnections = clientPorts.size();
+
+            int calls = THREADS * CALLS_PER_THREAD;
+            log.info("{} calls on {} threads, unpooled: {} calls/s over {} connections, pooled: {} calls/s over {} "
+                            + "connections", calls, THREADS, throughput(calls, unpooledNanos), unpooledConnections,
+                    throughput(calls, pooledNanos), pooledConnections);
+
+            assertThat(pooledConnections).isLessThanOrEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+            assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(0);
+        }
+    }
+
+    private long measure(RestTemplate restTemplate) throws Exception {
+        String url = "http://localhost:" + experienceServer.getAddress().getPort() + "/api/experience";
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(callers.submit(() -> {
+                for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                    restTemplate.postForEntity(url, "{}", String.class);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long throughput(int calls, long nanos) {
+        return calls * 1_000_000_000L / Math.max(1, nanos);
+    }
+}
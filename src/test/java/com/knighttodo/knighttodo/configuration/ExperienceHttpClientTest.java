@@ -0,0 +1,100 @@
+package com.knighttodo.knighttodo.configuration;
+
+import com.knighttodo.knighttodo.gateway.experience.client.AdaptiveReadTimeout;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExperienceHttpClientTest {
+
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 5;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private HttpServer experienceServer;
+    private ExecutorService callers;
+
+    static {
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        experienceServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        experienceServer.createContext("/api/experience", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            byte[] response = "{\"experience\":37}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        experienceServer.setExecutor(Executors.newFixedThreadPool(THREADS));
+        experienceServer.start();
+        callers = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        experienceServer.stop(0);
+    }
+
+    @Test
+    public void pooledClient_shouldStayWithinPerRouteLimit_andReleaseEveryLease() throws Exception {
+        RestConfig restConfig = new RestConfig();
+        PoolingHttpClientConnectionManager connectionManager = restConfig.experienceConnectionManager(
+                MAX_CONNECTIONS_PER_ROUTE, MAX_CONNECTIONS_PER_ROUTE, Duration.ofSeconds(2));
+        RequestConfig requestConfig = restConfig.experienceRequestConfig(Duration.ofSeconds(1), Duration.ofSeconds(3),
+                Duration.ofSeconds(5));
+        AdaptiveReadTimeout adaptiveReadTimeout = new AdaptiveReadTimeout(new SimpleMeterRegistry(), 0.99, 2.0, 50,
+                Duration.ofMillis(100), Duration.ofSeconds(3));
+        try (CloseableHttpClient httpClient = restConfig.experienceHttpClient(connectionManager, requestConfig,
+                Duration.ofSeconds(30), Duration.ofSeconds(30))) {
+            RestTemplate pooled = restConfig.restTemplate(new RestTemplateBuilder(), httpClient, requestConfig,
+                    adaptiveReadTimeout);
+            String url = "http://localhost:" + experienceServer.getAddress().getPort() + "/api/experience";
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(callers.submit(() -> {
+                    for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                        pooled.postForEntity(url, "{}", String.class);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            assertThat(clientPorts.size()).isLessThanOrEqualTo(MAX_CONNECTIONS_PER_ROUTE);
+            assertThat(connectionManager.getTotalStats().getLeased()).isEqualTo(0);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.knighttodo.knighttodo.gateway;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GatewayMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TodoGateway todoGateway;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new TodoGateway());
+        proxyFactory.addAspect(new GatewayMetricsAspect(meterRegistry));
+        todoGateway = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void gatewayCall_shouldBeTimedByEntityAndOperation() {
+        todoGateway.findName();
+
+        assertThat(timer("findName", "none").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void gatewayCall_shouldBeTaggedWithException_whenItFails() {
+        assertThatThrownBy(() -> todoGateway.fail()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timer("fail", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void asyncGatewayCall_shouldBeTimedUntilCompletion() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> result = todoGateway.awaitName(pending);
+
+        assertThat(result).isSameAs(pending);
+        assertThat(meterRegistry.find("gateway.calls").timer()).isNull();
+
+        pending.completeExceptionally(new IllegalStateException());
+
+        assertThat(timer("awaitName", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String operation, String exception) {
+        return meterRegistry.get("gateway.calls")
+                .tag("entity", "Todo")
+                .tag("operation", operation)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    public static class TodoGateway {
+
+        public String findName() {
+            return "Write integration tests";
+        }
+
+        public String fail() {
+            throw new IllegalStateException();
+        }
+
+        public CompletableFuture<String> awaitName(CompletableFuture<String> pending) {
+            return pending;
+        }
+    }
+}
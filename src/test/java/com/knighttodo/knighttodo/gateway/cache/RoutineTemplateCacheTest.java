@@ -0,0 +1,154 @@
+package com.knighttodo.knighttodo.gateway.cache;
+
+import com.knighttodo.knighttodo.domain.RoutineTodoVO;
+import com.knighttodo.knighttodo.domain.RoutineVO;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class RoutineTemplateCacheTest {
+
+    private final UUID routineId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationBus cacheInvalidationBus;
+    private RoutineTemplateCache routineTemplateCache;
+    private String storedName;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheInvalidationBus = mock(CacheInvalidationBus.class);
+        routineTemplateCache = new RoutineTemplateCache(cacheInvalidationBus, meterRegistry, 100,
+                Duration.ofMinutes(5));
+        storedName = "Morning routine";
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void findRoutine_shouldLoadOnce_andHandOutIndependentCopies() {
+        RoutineVO first = findRoutine();
+        first.setName("Changed by caller");
+        first.getRoutineTodos().get(0).setRoutineTodoName("Changed by caller");
+        first.getRoutineTodos().add(RoutineTodoVO.builder().build());
+
+        RoutineVO second = findRoutine();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getName()).isEqualTo("Morning routine");
+        assertThat(second.getRoutineTodos()).hasSize(1)
+                .allSatisfy(routineTodo -> assertThat(routineTodo.getRoutineTodoName()).isEqualTo("Stretch"));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "routines").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void findRoutine_shouldNotCacheMissingRoutine() {
+        assertThat(routineTemplateCache.findRoutine(routineId, id -> load(Optional.empty()))).isEmpty();
+        assertThat(routineTemplateCache.findRoutine(routineId, id -> load(Optional.empty()))).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    public void findRoutine_shouldSkipCacheForRoutineWrittenInTransaction_andEvictAfterCompletion() {
+        findRoutine();
+        TransactionSynchronizationManager.initSynchronization();
+        routineTemplateCache.invalidate(routineId);
+        storedName = "Evening routine";
+
+        assertThat(findRoutine().getName()).isEqualTo("Evening routine");
+        assertThat(findRoutine().getName()).isEqualTo("Evening routine");
+        assertThat(loads).hasValue(3);
+        verify(cacheInvalidationBus).publish(RoutineTemplateCache.ENTITY_TYPE, routineId);
+
+        complete();
+
+        assertThat(findRoutine().getName()).isEqualTo("Evening routine");
+        assertThat(findRoutine().getName()).isEqualTo("Evening routine");
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    public void findRoutineTodos_shouldBeEvicted_whenAllRoutinesAreInvalidated() {
+        routineTemplateCache.findRoutineTodos(routineId, id -> routineTodos());
+        routineTemplateCache.findRoutineTodos(routineId, id -> routineTodos());
+
+        routineTemplateCache.invalidateAll();
+        routineTemplateCache.findRoutineTodos(routineId, id -> routineTodos());
+
+        assertThat(loads).hasValue(2);
+        verify(cacheInvalidationBus).publishAll(RoutineTemplateCache.ENTITY_TYPE);
+    }
+
+    @Test
+    public void invalidationFromAnotherNode_shouldEvictOnlyTheNamedEntity() {
+        findRoutine();
+        routineTemplateCache.findRoutineTodos(routineId, id -> routineTodos());
+
+        CacheInvalidationBus.dispatch("routine:" + routineId, List.of(routineTemplateCache));
+        findRoutine();
+        routineTemplateCache.findRoutineTodos(routineId, id -> routineTodos());
+        CacheInvalidationBus.dispatch("day:" + routineId, List.of(routineTemplateCache));
+        findRoutine();
+
+        assertThat(loads).hasValue(4);
+        verifyNoInteractions(cacheInvalidationBus);
+    }
+
+    private RoutineVO findRoutine() {
+        return routineTemplateCache.findRoutine(routineId, id -> load(Optional.of(RoutineVO.builder()
+                .id(id)
+                .name(storedName)
+                .hardness(Hardness.HARD)
+                .scariness(Scariness.SCARY)
+                .routineTodos(new ArrayList<>(List.of(RoutineTodoVO.builder()
+                        .id(UUID.randomUUID())
+                        .routineTodoName("Stretch")
+                        .hardness(Hardness.EXTRAORDINARY)
+                        .scariness(Scariness.NOT_SCARY)
+                        .build())))
+                .build()))).orElseThrow();
+    }
+
+    private List<RoutineTodoVO> routineTodos() {
+        loads.incrementAndGet();
+        return List.of(RoutineTodoVO.builder().id(UUID.randomUUID()).routineTodoName("Stretch").build());
+    }
+
+    private <T> T load(T value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private static void complete() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
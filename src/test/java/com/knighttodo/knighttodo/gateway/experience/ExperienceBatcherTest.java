@@ -0,0 +1,149 @@
+package com.knighttodo.knighttodo.gateway.experience;
+
+import com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient;
+import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ExperienceBatcherTest {
+
+    private static final Duration WINDOW = Duration.ofMillis(500);
+    private static final int MAX_SIZE = 4;
+
+    private final ExperienceClient experienceClient = mock(ExperienceClient.class);
+    private final ExperienceBatcher experienceBatcher =
+            new ExperienceBatcher(experienceClient, WINDOW, MAX_SIZE, Duration.ofMinutes(10), 4, 100);
+
+    @AfterEach
+    public void tearDown() {
+        experienceBatcher.shutdown();
+    }
+
+    @Test
+    public void submit_shouldCoalesceRequestsWithinWindow_andDemultiplexByTodoId() {
+        List<ExperienceRequest> requests = requests(3);
+        when(experienceClient.calculateExperiences(anyList())).thenAnswer(invocation -> {
+            List<ExperienceRequest> batch = invocation.getArgument(0);
+            return Optional.of(batch.stream()
+                    .map(request -> response(request.getTodoId(), requests.indexOf(request) * 10))
+                    .collect(Collectors.toList()));
+        });
+
+        List<CompletableFuture<ExperienceResponse>> responses = submitAll(requests);
+
+        for (int i = 0; i < requests.size(); i++) {
+            ExperienceResponse response = responses.get(i).join();
+            assertThat(response.getTodoId()).isEqualTo(requests.get(i).getTodoId());
+            assertThat(response.getExperience()).isEqualTo(i * 10);
+        }
+        verify(experienceClient, times(1)).calculateExperiences(requests);
+        verify(experienceClient, never()).calculateExperience(any());
+    }
+
+    @Test
+    public void submit_shouldFlushWithoutWaitingForWindow_whenMaxSizeReached() {
+        List<ExperienceRequest> requests = requests(MAX_SIZE * 2);
+        when(experienceClient.calculateExperiences(anyList())).thenAnswer(invocation -> {
+            List<ExperienceRequest> batch = invocation.getArgument(0);
+            return Optional.of(batch.stream().map(request -> response(request.getTodoId(), 1))
+                    .collect(Collectors.toList()));
+        });
+
+        long start = System.nanoTime();
+        submitAll(requests).forEach(CompletableFuture::join);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(WINDOW);
+        verify(experienceClient, times(2)).calculateExperiences(anyList());
+    }
+
+    @Test
+    public void submit_shouldFailOnlyCallersMissingFromBatchResponse() {
+        List<ExperienceRequest> requests = requests(2);
+        when(experienceClient.calculateExperiences(anyList()))
+                .thenReturn(Optional.of(List.of(response(requests.get(0).getTodoId(), 7))));
+
+        List<CompletableFuture<ExperienceResponse>> responses = submitAll(requests);
+
+        assertThat(responses.get(0).join().getExperience()).isEqualTo(7);
+        assertThatThrownBy(() -> responses.get(1).join()).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void submit_shouldFallBackToSingleCalls_whenBatchEndpointIsMissing() {
+        List<ExperienceRequest> requests = requests(3);
+        when(experienceClient.calculateExperiences(anyList())).thenReturn(Optional.empty());
+        when(experienceClient.calculateExperience(any())).thenAnswer(invocation -> {
+            ExperienceRequest request = invocation.getArgument(0);
+            return response(request.getTodoId(), 5);
+        });
+
+        submitAll(requests).forEach(response -> assertThat(response.join().getExperience()).isEqualTo(5));
+        submitAll(requests(2)).forEach(CompletableFuture::join);
+
+        verify(experienceClient, times(1)).calculateExperiences(anyList());
+        verify(experienceClient, times(5)).calculateExperience(any());
+    }
+
+    @Test
+    public void submit_shouldNotHoldBackNextBatch_whileEarlierBatchIsSlow() throws Exception {
+        List<ExperienceRequest> slowRequests = requests(MAX_SIZE);
+        CountDownLatch slowBatchReleased = new CountDownLatch(1);
+        when(experienceClient.calculateExperiences(anyList())).thenAnswer(invocation -> {
+            List<ExperienceRequest> batch = invocation.getArgument(0);
+            if (batch.contains(slowRequests.get(0))) {
+                slowBatchReleased.await(5, TimeUnit.SECONDS);
+            }
+            return Optional.of(batch.stream().map(request -> response(request.getTodoId(), 1))
+                    .collect(Collectors.toList()));
+        });
+
+        List<CompletableFuture<ExperienceResponse>> slowResponses = submitAll(slowRequests);
+        List<CompletableFuture<ExperienceResponse>> nextResponses = submitAll(requests(MAX_SIZE));
+
+        try {
+            CompletableFuture.allOf(nextResponses.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+            assertThat(slowResponses).noneMatch(CompletableFuture::isDone);
+        } finally {
+            slowBatchReleased.countDown();
+        }
+        slowResponses.forEach(CompletableFuture::join);
+    }
+
+    private List<CompletableFuture<ExperienceResponse>> submitAll(List<ExperienceRequest> requests) {
+        return requests.stream().map(experienceBatcher::submit).collect(Collectors.toList());
+    }
+
+    private ExperienceResponse response(UUID todoId, int experience) {
+        return ExperienceResponse.builder().todoId(todoId).experience(experience).build();
+    }
+
+    private List<ExperienceRequest> requests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ExperienceRequest.builder().todoId(UUID.randomUUID()).userId(UUID.randomUUID())
+                        .scariness("SCARY").hardness("HARD").build())
+                .collect(Collectors.toList());
+    }
+}
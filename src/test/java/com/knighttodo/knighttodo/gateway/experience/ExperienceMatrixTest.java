@@ -0,0 +1,120 @@
+package com.knighttodo.knighttodo.gateway.experience;
+
+import com.knighttodo.knighttodo.gateway.experience.client.ExperienceClient;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceMatrixCellResponse;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceMatrixResponse;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ExperienceMatrixTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofMinutes(5);
+
+    private final ExperienceClient experienceClient = mock(ExperienceClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExperienceMatrix experienceMatrix;
+
+    @AfterEach
+    public void tearDown() {
+        experienceMatrix.shutdown();
+    }
+
+    @Test
+    public void lookup_shouldAnswerFromTable_andCountHits() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, true, MAX_STALENESS);
+        when(experienceClient.fetchExperienceMatrix(isNull())).thenReturn(Optional.of(matrix(1)));
+
+        experienceMatrix.refresh();
+
+        assertThat(experienceMatrix.lookup(Hardness.NOT_HARD, Scariness.NOT_SCARY)).hasValue(0);
+        assertThat(experienceMatrix.lookup(Hardness.IMPOSSIBLE, Scariness.VERY_SCARY)).hasValue(42);
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isZero();
+    }
+
+    @Test
+    public void lookup_shouldMiss_whenTableNotLoaded() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, true, MAX_STALENESS);
+
+        assertThat(experienceMatrix.lookup(Hardness.HARD, Scariness.SCARY)).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    public void lookup_shouldMiss_whenTableOlderThanMaxStaleness() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, true, Duration.ZERO);
+        when(experienceClient.fetchExperienceMatrix(isNull())).thenReturn(Optional.of(matrix(1)));
+
+        experienceMatrix.refresh();
+
+        assertThat(experienceMatrix.lookup(Hardness.HARD, Scariness.SCARY)).isEmpty();
+    }
+
+    @Test
+    public void observeVersion_shouldMissUntilNewVersionIsLoaded() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, true, MAX_STALENESS);
+        when(experienceClient.fetchExperienceMatrix(isNull())).thenReturn(Optional.of(matrix(1)));
+        experienceMatrix.refresh();
+
+        experienceMatrix.observeVersion(2L);
+
+        assertThat(experienceMatrix.lookup(Hardness.HARD, Scariness.SCARY)).isEmpty();
+        verify(experienceClient, timeout(1_000)).fetchExperienceMatrix(eq(1L));
+    }
+
+    @Test
+    public void refresh_shouldKeepTable_whenVersionNotModified() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, true, MAX_STALENESS);
+        when(experienceClient.fetchExperienceMatrix(isNull())).thenReturn(Optional.of(matrix(1)));
+        when(experienceClient.fetchExperienceMatrix(eq(1L))).thenReturn(Optional.empty());
+
+        experienceMatrix.refresh();
+        experienceMatrix.refresh();
+
+        assertThat(experienceMatrix.lookup(Hardness.HARD, Scariness.SCARY)).hasValue(11);
+    }
+
+    @Test
+    public void lookup_shouldNeverAnswerLocally_whenDisabled() {
+        experienceMatrix = new ExperienceMatrix(experienceClient, meterRegistry, false, MAX_STALENESS);
+
+        experienceMatrix.refresh();
+        experienceMatrix.observeVersion(1L);
+
+        assertThat(experienceMatrix.lookup(Hardness.HARD, Scariness.SCARY)).isEmpty();
+        verify(experienceClient, never()).fetchExperienceMatrix(any());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("experience.matrix.lookups").tag("result", result).counter().count();
+    }
+
+    private ExperienceMatrixResponse matrix(long version) {
+        List<ExperienceMatrixCellResponse> cells = new ArrayList<>();
+        for (Hardness hardness : Hardness.values()) {
+            for (Scariness scariness : Scariness.values()) {
+                int experience = hardness.ordinal() * 10 + scariness.ordinal();
+                cells.add(new ExperienceMatrixCellResponse(hardness, scariness, experience));
+            }
+        }
+        return new ExperienceMatrixResponse(version, cells);
+    }
+}
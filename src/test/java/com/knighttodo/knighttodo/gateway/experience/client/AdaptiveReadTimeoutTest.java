@@ -0,0 +1,72 @@
+package com.knighttodo.knighttodo.gateway.experience.client;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveReadTimeoutTest {
+
+    private static final URI EXPERIENCE_URI = URI.create("http://localhost:6070/api/experience");
+    private static final Duration MIN = Duration.ofMillis(100);
+    private static final Duration MAX = Duration.ofSeconds(3);
+
+    private MockClock clock;
+    private AdaptiveReadTimeout adaptiveReadTimeout;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MockClock();
+        adaptiveReadTimeout = new AdaptiveReadTimeout(new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock), 0.99, 2.0,
+                50, MIN, MAX);
+    }
+
+    @Test
+    public void current_shouldUseUpperBound_untilEnoughCallsWereRecorded() {
+        record(49, Duration.ofMillis(200));
+
+        assertThat(adaptiveReadTimeout.current(EXPERIENCE_URI)).isEqualTo(MAX);
+    }
+
+    @Test
+    public void current_shouldFollowObservedPercentileTimesMultiplier() {
+        record(100, Duration.ofMillis(200));
+
+        assertThat(adaptiveReadTimeout.current(EXPERIENCE_URI))
+                .isBetween(Duration.ofMillis(380), Duration.ofMillis(420));
+    }
+
+    @Test
+    public void current_shouldFallBackToUpperBound_afterQuietSpell() {
+        record(100, Duration.ofMillis(500));
+
+        clock.add(5, TimeUnit.MINUTES);
+
+        assertThat(adaptiveReadTimeout.current(EXPERIENCE_URI)).isEqualTo(MAX);
+    }
+
+    @Test
+    public void recordTimeout_shouldWidenTimeoutThatIsTooTight() {
+        record(100, Duration.ofMillis(10));
+        assertThat(adaptiveReadTimeout.current(EXPERIENCE_URI)).isEqualTo(MIN);
+
+        for (int i = 0; i < 5; i++) {
+            adaptiveReadTimeout.recordTimeout(EXPERIENCE_URI);
+        }
+
+        assertThat(adaptiveReadTimeout.current(EXPERIENCE_URI)).isGreaterThan(MIN);
+    }
+
+    private void record(int calls, Duration latency) {
+        for (int i = 0; i < calls; i++) {
+            adaptiveReadTimeout.record(EXPERIENCE_URI, latency);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.knighttodo.knighttodo.gateway.experience.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ExperienceResilienceTest {
+
+    private static final int MINIMUM_CALLS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void call_shouldOpenCircuitAfterFailures_andRejectWithoutCallingService() {
+        ExperienceResilience experienceResilience = resilience(Duration.ofHours(1), 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> experienceResilience.call(() -> failWith(attempts, serviceUnavailable())))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        assertThatThrownBy(() -> experienceResilience.call(() -> failWith(attempts, serviceUnavailable())))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(attempts).hasValue(MINIMUM_CALLS);
+        assertThat(transitions("closed", "open")).isEqualTo(1);
+    }
+
+    @Test
+    public void call_shouldCloseCircuit_whenHalfOpenProbesSucceed() throws Exception {
+        ExperienceResilience experienceResilience = resilience(Duration.ofMillis(100), 10);
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> experienceResilience.call(() -> failWith(new AtomicInteger(),
+                    serviceUnavailable()))).isInstanceOf(HttpServerErrorException.class);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (experienceResilience.state() != CircuitBreaker.State.HALF_OPEN && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        experienceResilience.call(() -> 1);
+
+        assertThat(experienceResilience.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions("open", "half_open")).isEqualTo(1);
+        assertThat(transitions("half_open", "closed")).isEqualTo(1);
+    }
+
+    @Test
+    public void call_shouldRetryOnlyRequestsThatNeverLeft() {
+        ExperienceResilience experienceResilience = resilience(Duration.ofHours(1), 10);
+        AtomicInteger connectAttempts = new AtomicInteger();
+        AtomicInteger readAttempts = new AtomicInteger();
+
+        Integer experience = experienceResilience.call(() -> connectAttempts.incrementAndGet() < 3
+                ? failWith(new AtomicInteger(), new ResourceAccessException("refused", new ConnectException()))
+                : 7);
+        assertThatThrownBy(() -> experienceResilience.call(() -> failWith(readAttempts,
+                new ResourceAccessException("read timed out", new SocketTimeoutException()))))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(experience).isEqualTo(7);
+        assertThat(connectAttempts).hasValue(3);
+        assertThat(readAttempts).hasValue(1);
+    }
+
+    @Test
+    public void callIdempotent_shouldRetryServerErrors() {
+        ExperienceResilience experienceResilience = resilience(Duration.ofHours(1), 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> experienceResilience.callIdempotent(() -> failWith(attempts, serviceUnavailable())))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void call_shouldRejectCallers_whenBulkheadIsFull() throws Exception {
+        ExperienceResilience experienceResilience = resilience(Duration.ofHours(1), 1);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> slowCall = CompletableFuture.supplyAsync(() -> experienceResilience.call(() -> {
+            inFlight.countDown();
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        }));
+        inFlight.await(2, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> experienceResilience.call(() -> 2)).isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        assertThat(slowCall.get(2, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private ExperienceResilience resilience(Duration waitInOpen, int maxConcurrentCalls) {
+        return new ExperienceResilience(meterRegistry, maxConcurrentCalls, Duration.ZERO, 50, 100,
+                Duration.ofSeconds(1), MINIMUM_CALLS, MINIMUM_CALLS, waitInOpen, 1, 3, Duration.ofMillis(10), 2.0,
+                0.5);
+    }
+
+    private double transitions(String from, String to) {
+        return meterRegistry.get("experience.circuit.transitions").tag("from", from).tag("to", to).counter().count();
+    }
+
+    private static HttpServerErrorException serviceUnavailable() {
+        return new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private static <T> T failWith(AtomicInteger attempts, RuntimeException ex) {
+        attempts.incrementAndGet();
+        throw ex;
+    }
+}
@@ -0,0 +1,86 @@
+package com.knighttodo.knighttodo.gateway.privatedb.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@Tag("load")
+@Testcontainers
+public class TimeOrderedUuidGeneratorBenchmarkTest {
+
+    private static final int ROWS_COUNT = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    public static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:11.1");
+
+    @Test
+    public void timeOrderedIds_shouldKeepPrimaryKeyIndexSmaller_thanRandomIds() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(postgresqlContainer.getJdbcUrl(),
+                postgresqlContainer.getUsername(), postgresqlContainer.getPassword())) {
+            connection.setAutoCommit(false);
+
+            InsertResult random = insertRows(connection, "random_ids", UUID::randomUUID);
+            InsertResult timeOrdered = insertRows(connection, "time_ordered_ids", TimeOrderedUuidGenerator::nextUuid);
+
+            log.info("{} rows, random ids: {} ms, pk index {} kB; time-ordered ids: {} ms, pk index {} kB", ROWS_COUNT,
+                    random.millis, random.indexBytes / 1024, timeOrdered.millis, timeOrdered.indexBytes / 1024);
+
+            assertThat(timeOrdered.indexBytes).isLessThan(random.indexBytes);
+        }
+    }
+
+    private InsertResult insertRows(Connection connection, String table, Supplier<UUID> ids) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table " + table + " (id uuid primary key, name varchar(255))");
+        }
+        connection.commit();
+
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "insert into " + table + " (id, name) values (?, ?)")) {
+            for (int i = 1; i <= ROWS_COUNT; i++) {
+                statement.setObject(1, ids.get());
+                statement.setString(2, "todo " + i);
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select pg_relation_size('" + table + "_pkey')")) {
+            resultSet.next();
+            return new InsertResult(millis, resultSet.getLong(1));
+        }
+    }
+
+    private static class InsertResult {
+
+        private final long millis;
+        private final long indexBytes;
+
+        private InsertResult(long millis, long indexBytes) {
+            this.millis = millis;
+            this.indexBytes = indexBytes;
+        }
+    }
+}
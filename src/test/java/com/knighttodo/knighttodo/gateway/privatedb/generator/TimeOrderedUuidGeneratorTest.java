@@ -0,0 +1,45 @@
+package com.knighttodo.knighttodo.gateway.privatedb.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeOrderedUuidGeneratorTest {
+
+    private static final int IDS_COUNT = 100_000;
+
+    @Test
+    public void nextUuid_shouldSetVersionSevenAndIetfVariant() {
+        UUID uuid = TimeOrderedUuidGenerator.nextUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    public void nextUuid_shouldEmbedCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuidGenerator.nextUuid();
+
+        assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    public void nextUuid_shouldBeStrictlyIncreasingInUnsignedByteOrder_whenManyIdsAreIssuedPerMillisecond() {
+        UUID previous = TimeOrderedUuidGenerator.nextUuid();
+
+        for (int i = 0; i < IDS_COUNT; i++) {
+            UUID next = TimeOrderedUuidGenerator.nextUuid();
+            assertThat(compareUnsigned(next, previous)).isPositive();
+            previous = next;
+        }
+    }
+
+    private int compareUnsigned(UUID first, UUID second) {
+        int mostSignificant = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return mostSignificant != 0 ? mostSignificant
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
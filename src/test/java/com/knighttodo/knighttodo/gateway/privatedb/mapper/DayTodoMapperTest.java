@@ -0,0 +1,90 @@
+package com.knighttodo.knighttodo.gateway.privatedb.mapper;
+
+import com.knighttodo.knighttodo.domain.DayTodoVO;
+import com.knighttodo.knighttodo.factories.DayFactory;
+import com.knighttodo.knighttodo.factories.DayTodoFactory;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DayTodoMapperTest {
+
+    private static final int[] TODOS_PER_DAY = {25, 50, 100, 200};
+
+    private DayTodoMapper dayTodoMapper;
+
+    @BeforeEach
+    public void setUp() {
+        DayMapperImpl dayMapper = new DayMapperImpl();
+        DayTodoMapperImpl dayTodoMapperImpl = new DayTodoMapperImpl();
+        ReflectionTestUtils.setField(dayMapper, "dayTodoMapper", dayTodoMapperImpl);
+        ReflectionTestUtils.setField(dayTodoMapperImpl, "dayMapper", dayMapper);
+        dayTodoMapper = dayTodoMapperImpl;
+    }
+
+    @Test
+    public void toTodoVOWithDayReference_shouldMaterializeOneVOPerTodo() {
+        List<DayTodo> dayTodos = dayWithTodos(TODOS_PER_DAY[0]);
+
+        List<DayTodoVO> dayTodoVOs = mapAll(dayTodos, dayTodoMapper::toTodoVOWithDayReference);
+
+        assertThat(countMaterializedTodos(dayTodoVOs)).isEqualTo(dayTodos.size());
+        assertThat(dayTodoVOs).allSatisfy(dayTodoVO -> {
+            assertThat(dayTodoVO.getDay().getId()).isEqualTo(dayTodos.get(0).getDay().getId());
+            assertThat(dayTodoVO.getDay().getDayTodos()).isNullOrEmpty();
+        });
+    }
+
+    @Test
+    public void materializedVOs_shouldGrowLinearlyWithDayReference_andQuadraticallyWithFullDay() {
+        long previousReferenceCount = 0;
+        long previousFullCount = 0;
+
+        for (int todosPerDay : TODOS_PER_DAY) {
+            List<DayTodo> dayTodos = dayWithTodos(todosPerDay);
+
+            long referenceCount = countMaterializedTodos(mapAll(dayTodos, dayTodoMapper::toTodoVOWithDayReference));
+            long fullCount = countMaterializedTodos(mapAll(dayTodos, dayTodoMapper::toTodoVO));
+
+            assertThat(referenceCount).isEqualTo(todosPerDay);
+            assertThat(fullCount).isEqualTo(todosPerDay + (long) todosPerDay * todosPerDay);
+            if (previousReferenceCount > 0) {
+                assertThat(referenceCount).isEqualTo(previousReferenceCount * 2);
+                assertThat(fullCount).isGreaterThan(previousFullCount * 3);
+            }
+            previousReferenceCount = referenceCount;
+            previousFullCount = fullCount;
+        }
+    }
+
+    private List<DayTodoVO> mapAll(List<DayTodo> dayTodos, Function<DayTodo, DayTodoVO> mapping) {
+        return dayTodos.stream().map(mapping).collect(Collectors.toList());
+    }
+
+    private long countMaterializedTodos(List<DayTodoVO> dayTodoVOs) {
+        return dayTodoVOs.stream()
+                .mapToLong(dayTodoVO -> 1 + (dayTodoVO.getDay().getDayTodos() == null ? 0
+                        : dayTodoVO.getDay().getDayTodos().size()))
+                .sum();
+    }
+
+    private List<DayTodo> dayWithTodos(int todosCount) {
+        Day day = DayFactory.dayInstance();
+        day.setId(UUID.randomUUID());
+        for (int i = 0; i < todosCount; i++) {
+            DayTodo dayTodo = DayTodoFactory.dayTodoWithDayInstance(day);
+            dayTodo.setId(UUID.randomUUID());
+            day.getDayTodos().add(dayTodo);
+        }
+        return day.getDayTodos();
+    }
+}
@@ -0,0 +1,153 @@
+package com.knighttodo.knighttodo.integration;
+
+import com.knighttodo.knighttodo.domain.RoutineVO;
+import com.knighttodo.knighttodo.factories.RoutineFactory;
+import com.knighttodo.knighttodo.gateway.RoutineGateway;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static com.knighttodo.knighttodo.factories.RoutineFactory.HARDNESS_HARD;
+import static com.knighttodo.knighttodo.factories.RoutineFactory.SCARINESS_HARD;
+import static com.knighttodo.knighttodo.factories.RoutineFactory.UPDATED_ROUTINE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ContextConfiguration(initializers = CacheInvalidationIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Testcontainers
+public class CacheInvalidationIntegrationTest {
+
+    private static final String CHANNEL = "knight_todo_cache";
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private RoutineGateway routineGateway;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    public void tearDown() {
+        routineRepository.deleteAll();
+    }
+
+    @Container
+    public static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres");
+
+    static {
+        postgresqlContainer.start();
+    }
+
+    public static class DockerPostgreDataSourceInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+
+            TestPropertySourceUtils.addInlinedPropertiesToEnvironment(
+                    applicationContext,
+                    "spring.datasource.url=" + postgresqlContainer.getJdbcUrl(),
+                    "spring.datasource.username=" + postgresqlContainer.getUsername(),
+                    "spring.datasource.password=" + postgresqlContainer.getPassword(),
+                    "cache.invalidation.poll-interval=50ms"
+            );
+        }
+    }
+
+    @Test
+    public void notificationFromAnotherNode_shouldEvictRoutineFromLocalCache() throws Exception {
+        awaitListener();
+        Routine routine = routineRepository.save(RoutineFactory.routineInstance());
+        String cachedName = routineGateway.findById(routine.getId()).orElseThrow().getName();
+
+        routine.setName(UPDATED_ROUTINE_NAME);
+        routineRepository.save(routine);
+        assertThat(routineGateway.findById(routine.getId()).orElseThrow().getName()).isEqualTo(cachedName);
+
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, "routine:" + routine.getId());
+
+        awaitUntil(() -> UPDATED_ROUTINE_NAME.equals(routineGateway.findById(routine.getId()).orElseThrow().getName()));
+        assertThat(routineGateway.findById(routine.getId()).orElseThrow().getName()).isEqualTo(UPDATED_ROUTINE_NAME);
+    }
+
+    @Test
+    public void routineWrite_shouldNotifyOtherNodes_onlyWhenItCommits() throws Exception {
+        try (Connection otherNode = DriverManager.getConnection(postgresqlContainer.getJdbcUrl(),
+                postgresqlContainer.getUsername(), postgresqlContainer.getPassword())) {
+            try (Statement statement = otherNode.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+
+            UUID rolledBackId = transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                return routineGateway.save(routineVO()).getId();
+            });
+            UUID committedId = transactionTemplate.execute(status -> routineGateway.save(routineVO()).getId());
+
+            assertThat(receive(otherNode)).contains("routine:" + committedId)
+                    .doesNotContain("routine:" + rolledBackId);
+        }
+    }
+
+    private void awaitListener() throws InterruptedException {
+        awaitUntil(() -> meterRegistry.get("cache.invalidation.flushes").counter().count() > 0);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private static RoutineVO routineVO() {
+        return RoutineVO.builder()
+                .name(RoutineFactory.ROUTINE_NAME)
+                .hardness(HARDNESS_HARD)
+                .scariness(SCARINESS_HARD)
+                .build();
+    }
+
+    private static List<String> receive(Connection listening) throws Exception {
+        List<String> payloads = new ArrayList<>();
+        PGNotification[] notifications = listening.unwrap(PGConnection.class).getNotifications((int) WAIT_MILLIS);
+        while (notifications != null && notifications.length > 0) {
+            for (PGNotification notification : notifications) {
+                payloads.add(notification.getParameter());
+            }
+            notifications = listening.unwrap(PGConnection.class).getNotifications(500);
+        }
+        return payloads;
+    }
+}
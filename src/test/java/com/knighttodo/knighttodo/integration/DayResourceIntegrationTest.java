@@ -1,12 +1,14 @@
 package com.knighttodo.knighttodo.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.knighttodo.knighttodo.factories.DayFactory;
 import com.knighttodo.knighttodo.factories.DayTodoFactory;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.DayRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.repository.DayTodoRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
 import com.knighttodo.knighttodo.rest.request.DayRequestDto;
+import com.knighttodo.knighttodo.sql.SqlStatementCountingConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +16,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.support.TestPropertySourceUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -25,11 +29,15 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static com.knighttodo.knighttodo.Constants.API_BASE_DAYS;
 import static com.knighttodo.knighttodo.Constants.API_BASE_URL_V1;
+import static com.knighttodo.knighttodo.Constants.PARAM_CURSOR;
+import static com.knighttodo.knighttodo.Constants.PARAM_LIMIT;
 import static com.knighttodo.knighttodo.TestConstants.buildDeleteDayByIdUrl;
 import static com.knighttodo.knighttodo.TestConstants.buildGetDayByIdUrl;
+import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToContentLength;
 import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToDayName;
 import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToId;
-import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToLength;
+import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToNext;
+import static com.knighttodo.knighttodo.sql.SqlStatementBudget.sqlBudget;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -42,6 +50,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @ContextConfiguration(initializers = DayResourceIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(SqlStatementCountingConfiguration.class)
 @Testcontainers
 public class DayResourceIntegrationTest {
 
@@ -59,6 +68,7 @@ public class DayResourceIntegrationTest {
 
     @AfterEach
     public void tearDown() {
+        dayTodoRepository.deleteAll();
         dayRepository.deleteAll();
     }
 
@@ -136,7 +146,30 @@ public class DayResourceIntegrationTest {
         mockMvc.perform(
                 get(API_BASE_URL_V1 + API_BASE_DAYS))
                 .andExpect(status().isFound())
-                .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(2));
+
+        sqlBudget().selects(2).verify();
+    }
+
+    @Test
+    public void findAllDays_shouldReturnPagesLinkedByCursor_whenLimitIsLessThanDaysCount() throws Exception {
+        dayRepository.save(DayFactory.dayInstance());
+        dayRepository.save(DayFactory.dayInstance());
+        dayRepository.save(DayFactory.dayInstance());
+
+        MvcResult firstPage = mockMvc.perform(
+                get(API_BASE_URL_V1 + API_BASE_DAYS).param(PARAM_LIMIT, "2"))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(2))
+                .andExpect(jsonPath(buildJsonPathToNext()).isNotEmpty())
+                .andReturn();
+        String cursor = JsonPath.read(firstPage.getResponse().getContentAsString(), buildJsonPathToNext());
+
+        mockMvc.perform(
+                get(API_BASE_URL_V1 + API_BASE_DAYS).param(PARAM_LIMIT, "2").param(PARAM_CURSOR, cursor))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(1))
+                .andExpect(jsonPath(buildJsonPathToNext()).doesNotExist());
     }
 
     @Test
@@ -147,6 +180,8 @@ public class DayResourceIntegrationTest {
                 get(buildGetDayByIdUrl(day.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToId()).value(day.getId().toString()));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -227,4 +262,20 @@ public class DayResourceIntegrationTest {
         assertThat(dayRepository.findById(day.getId())).isEmpty();
         assertThat(dayTodoRepository.findAll().isEmpty());
     }
+
+    @Test
+    public void findAllDays_shouldLoadTodosOfWholePageInOneSelect_whenDaysHaveTodos() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Day day = dayRepository.save(DayFactory.dayInstance());
+            dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+            dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+        }
+
+        mockMvc.perform(
+                get(API_BASE_URL_V1 + API_BASE_DAYS))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(20));
+
+        sqlBudget().selects(2).verify();
+    }
 }
@@ -10,6 +10,7 @@ import com.knighttodo.knighttodo.gateway.privatedb.repository.DayTodoRepository;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
 import com.knighttodo.knighttodo.rest.request.DayTodoRequestDto;
+import com.knighttodo.knighttodo.sql.SqlStatementCountingConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,32 +20,46 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.support.TestPropertySourceUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static com.knighttodo.knighttodo.Constants.*;
 import static com.knighttodo.knighttodo.TestConstants.*;
+import static com.knighttodo.knighttodo.sql.SqlStatementBudget.sqlBudget;
 import static org.aspectj.bridge.MessageUtil.fail;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ContextConfiguration(initializers = DayTodoResourceIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(SqlStatementCountingConfiguration.class)
 @Testcontainers
 public class DayTodoResourceIntegrationTest {
 
@@ -111,6 +126,33 @@ public class DayTodoResourceIntegrationTest {
         assertThat(dayTodoRepository.count()).isEqualTo(1);
     }
 
+    @Test
+    public void addDayTodo_shouldReplayStoredResponseWithoutSavingAgain_whenIdempotencyKeyIsRepeated()
+            throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodoRequestDto requestDto = DayTodoFactory.createDayTodoRequestDto();
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        String firstResponse = mockMvc.perform(post(API_BASE_URL_V1 + API_BASE_DAYS + "/" + day.getId() + API_BASE_TODOS)
+                .header(HEADER_IDEMPOTENCY_KEY, idempotencyKey)
+                .content(objectMapper.writeValueAsString(requestDto))
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        String replayedResponse = mockMvc.perform(post(API_BASE_URL_V1 + API_BASE_DAYS + "/" + day.getId() + API_BASE_TODOS)
+                .header(HEADER_IDEMPOTENCY_KEY, idempotencyKey)
+                .content(objectMapper.writeValueAsString(requestDto))
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HEADER_IDEMPOTENT_REPLAYED, PARAMETER_TRUE))
+                .andReturn().getResponse().getContentAsString();
+
+        sqlBudget().verify();
+        assertThat(replayedResponse).isEqualTo(firstResponse);
+        assertThat(dayTodoRepository.count()).isEqualTo(1);
+    }
+
     @Test
     public void addDayTodo_shouldRespondWithBadRequestStatus_whenNameIsNull() throws Exception {
         Day day = dayRepository.save(DayFactory.dayInstance());
@@ -173,6 +215,8 @@ public class DayTodoResourceIntegrationTest {
         mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_DAYS + "/" + day.getId() + API_BASE_TODOS))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -183,6 +227,8 @@ public class DayTodoResourceIntegrationTest {
         mockMvc.perform(get(buildGetDayTodoByIdUrl(day.getId(), dayTodo.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToId()).value(dayTodo.getId().toString()));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -329,6 +375,8 @@ public class DayTodoResourceIntegrationTest {
         mockMvc.perform(get(buildGetTodosByDayIdUrl(day.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -340,8 +388,14 @@ public class DayTodoResourceIntegrationTest {
         when(restTemplate.postForEntity(anyString(), any(), eq(ExperienceResponse.class)))
                 .thenReturn(new ResponseEntity<>(experienceResponse, HttpStatus.OK));
 
-        mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
                 .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        sqlBudget().updates(1).verify();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(buildJsonPathToDayId()).isNotEmpty())
                 .andExpect(jsonPath(buildJsonPathToExperience()).isNotEmpty())
@@ -350,6 +404,56 @@ public class DayTodoResourceIntegrationTest {
         assertThat(dayTodoRepository.findById(dayTodo.getId()).get().isReady()).isEqualTo(true);
     }
 
+    @Test
+    public void updateIsReady_shouldNotRequestExperience_whenDayTodoIsAlreadyReady() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodo dayTodoWithReadyTrue = dayTodoRepository.save(DayTodoFactory.dayTodoWithDayReadyInstance(day));
+
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodoWithReadyTrue.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(buildJsonPathToReadyName()).value(true));
+
+        verify(restTemplate, never()).postForEntity(anyString(), any(), eq(ExperienceResponse.class));
+        assertThat(dayTodoRepository.findById(dayTodoWithReadyTrue.getId()).get().isReady()).isEqualTo(true);
+    }
+
+    @Test
+    public void updateIsReady_shouldReplayStoredResponseWithoutRequestingExperience_whenIdempotencyKeyIsRepeated()
+            throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodo dayTodo = dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+        ExperienceResponse experienceResponse = DayTodoFactory.experienceResponseInstance(dayTodo.getId());
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        when(restTemplate.postForEntity(anyString(), any(), eq(ExperienceResponse.class)))
+                .thenReturn(new ResponseEntity<>(experienceResponse, HttpStatus.OK));
+
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE)
+                .header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String firstResponse = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String replayedResponse = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE)
+                .header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HEADER_IDEMPOTENT_REPLAYED, PARAMETER_TRUE))
+                .andReturn().getResponse().getContentAsString();
+
+        sqlBudget().verify();
+        assertThat(replayedResponse).isEqualTo(firstResponse);
+        verify(restTemplate, times(1)).postForEntity(anyString(), any(), eq(ExperienceResponse.class));
+    }
+
     @Test
     public void updateIsReady_shouldReturnOk_shouldMakeIsReadyFalse_whenDayTodoIdIsCorrect() throws Exception {
         Day day = dayRepository.save(DayFactory.dayInstance());
@@ -359,10 +463,63 @@ public class DayTodoResourceIntegrationTest {
         when(restTemplate.postForEntity(anyString(), any(), eq(ExperienceResponse.class)))
                 .thenReturn(new ResponseEntity<>(experienceResponse, HttpStatus.OK));
 
-        mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodoWithReadyTrue.getId()))
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodoWithReadyTrue.getId()))
                 .param(PARAM_READY, PARAMETER_FALSE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk());
 
         assertThat(dayTodoRepository.findById(dayTodoWithReadyTrue.getId()).get().isReady()).isEqualTo(false);
     }
+
+    @Test
+    public void findDayTodosByDayId_shouldIssueSingleSelect_whenDayHasManyTodos() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        dayTodoRepository.saveAll(IntStream.range(0, 500)
+                .mapToObj(i -> DayTodoFactory.dayTodoWithDayInstance(day))
+                .collect(Collectors.toList()));
+
+        mockMvc.perform(get(buildGetTodosByDayIdUrl(day.getId())))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath(buildJsonPathToLength()).value(500));
+
+        sqlBudget().selects(1).verify();
+    }
+
+    @Test
+    public void addDayTodos_shouldBatchInsertsAndReturnTodosInRequestOrder_whenRequestIsCorrect() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        List<DayTodoRequestDto> requestDtos = IntStream.range(0, 250)
+                .mapToObj(i -> DayTodoRequestDto.builder().dayTodoName(DayTodoFactory.TODO_NAME + " " + i)
+                        .scariness(DayTodoFactory.SCARINESS_TODO).hardness(DayTodoFactory.HARDNESS_TODO).build())
+                .collect(Collectors.toList());
+
+        mockMvc.perform(post(API_BASE_URL_V1 + API_BASE_DAYS + "/" + day.getId() + API_BASE_TODOS + API_BASE_BULK)
+                .content(objectMapper.writeValueAsString(requestDtos))
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath(buildJsonPathToLength()).value(250))
+                .andExpect(jsonPath("$[0].dayTodoName").value(DayTodoFactory.TODO_NAME + " 0"))
+                .andExpect(jsonPath("$[249].dayTodoName").value(DayTodoFactory.TODO_NAME + " 249"))
+                .andExpect(jsonPath("$[249].dayId").value(day.getId().toString()));
+
+        sqlBudget().selects(1).inserts(3).verify();
+        assertThat(dayTodoRepository.count()).isEqualTo(250);
+    }
+
+    @Test
+    public void addDayTodos_shouldRespondWithBadRequestStatusAndSaveNothing_whenOneTodoIsInvalid() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        List<DayTodoRequestDto> requestDtos = List.of(DayTodoFactory.createDayTodoRequestDto(),
+                DayTodoFactory.createDayTodoRequestDtoWithoutName());
+
+        mockMvc.perform(post(API_BASE_URL_V1 + API_BASE_DAYS + "/" + day.getId() + API_BASE_TODOS + API_BASE_BULK)
+                .content(objectMapper.writeValueAsString(requestDtos))
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isBadRequest());
+
+        assertThat(dayTodoRepository.count()).isEqualTo(0);
+    }
 }
@@ -0,0 +1,186 @@
+package com.knighttodo.knighttodo.integration;
+
+import com.knighttodo.knighttodo.factories.DayFactory;
+import com.knighttodo.knighttodo.factories.DayTodoFactory;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.DayRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.DayTodoRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.ExperienceOutboxEntryRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+import static com.knighttodo.knighttodo.Constants.BASE_BATCH;
+import static com.knighttodo.knighttodo.Constants.BASE_EXPERIENCE_URL;
+import static com.knighttodo.knighttodo.Constants.PARAM_READY;
+import static com.knighttodo.knighttodo.TestConstants.PARAMETER_TRUE;
+import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToExperience;
+import static com.knighttodo.knighttodo.TestConstants.buildJsonPathToReadyName;
+import static com.knighttodo.knighttodo.TestConstants.buildUpdateTodoReadyBaseUrl;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ContextConfiguration(initializers = ExperienceOutboxIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Testcontainers
+public class ExperienceOutboxIntegrationTest {
+
+    private static final long OUTBOX_DRAIN_TIMEOUT_MILLIS = 15_000;
+
+    private static final List<String> EXPERIENCE_REQUESTS = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger FAILURES_LEFT = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private DayTodoRepository dayTodoRepository;
+
+    @Autowired
+    private ExperienceOutboxEntryRepository experienceOutboxEntryRepository;
+
+    @AfterEach
+    public void tearDown() {
+        experienceOutboxEntryRepository.deleteAll();
+        dayTodoRepository.deleteAll();
+        dayRepository.deleteAll();
+        EXPERIENCE_REQUESTS.clear();
+        FAILURES_LEFT.set(0);
+    }
+
+    @Container
+    public static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:11.1");
+
+    private static final HttpServer experienceServer;
+
+    static {
+        postgresqlContainer.start();
+        experienceServer = startExperienceServerStub();
+    }
+
+    public static class DockerPostgreDataSourceInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+
+            TestPropertySourceUtils.addInlinedPropertiesToEnvironment(
+                    applicationContext,
+                    "spring.datasource.url=" + postgresqlContainer.getJdbcUrl(),
+                    "spring.datasource.username=" + postgresqlContainer.getUsername(),
+                    "spring.datasource.password=" + postgresqlContainer.getPassword(),
+                    "baseUrl.experience=http://localhost:" + experienceServer.getAddress().getPort(),
+                    "experience.outbox.poll-interval=200"
+            );
+        }
+    }
+
+    private static HttpServer startExperienceServerStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext(API_BASE_URL + BASE_EXPERIENCE_URL, exchange -> {
+                if (exchange.getRequestURI().getPath().endsWith(BASE_BATCH)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                EXPERIENCE_REQUESTS.add(body);
+                boolean fail = FAILURES_LEFT.getAndUpdate(failures -> Math.max(0, failures - 1)) > 0;
+                byte[] response = (fail ? "{}" : "{\"experience\":" + DayTodoFactory.HARD_SCARY_EXPERIENCE + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(fail ? 503 : 200, response.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Experience server stub can't be started", ex);
+        }
+    }
+
+    @Test
+    public void updateIsReady_shouldGrantExperienceRightAway_whenExperienceServiceIsAvailable() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodo dayTodo = dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(buildJsonPathToReadyName()).value(true))
+                .andExpect(jsonPath(buildJsonPathToExperience()).value(DayTodoFactory.HARD_SCARY_EXPERIENCE));
+
+        assertThat(EXPERIENCE_REQUESTS).hasSize(1);
+        assertThat(EXPERIENCE_REQUESTS.get(0)).contains(dayTodo.getId().toString());
+        assertThat(experienceOutboxEntryRepository.count()).isEqualTo(0);
+    }
+
+    @Test
+    public void updateIsReady_shouldKeepAwardInOutboxAndRetryInBackground_whenExperienceServiceFails() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodo dayTodo = dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+        FAILURES_LEFT.set(1);
+
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(buildJsonPathToReadyName()).value(true))
+                .andExpect(jsonPath(buildJsonPathToExperience()).value(0));
+
+        assertThat(dayTodoRepository.findById(dayTodo.getId()).get().isReady()).isEqualTo(true);
+        assertThat(experienceOutboxEntryRepository.count()).isEqualTo(1);
+
+        awaitEmptyOutbox();
+
+        assertThat(EXPERIENCE_REQUESTS).hasSize(2);
+        assertThat(EXPERIENCE_REQUESTS).allSatisfy(body -> assertThat(body).contains(dayTodo.getId().toString()));
+    }
+
+    private void awaitEmptyOutbox() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + OUTBOX_DRAIN_TIMEOUT_MILLIS;
+        while (experienceOutboxEntryRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(experienceOutboxEntryRepository.count()).isEqualTo(0);
+    }
+}
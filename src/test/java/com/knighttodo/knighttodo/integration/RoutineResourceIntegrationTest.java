@@ -10,6 +10,7 @@ import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoReposit
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
 import com.knighttodo.knighttodo.rest.request.RoutineRequestDto;
+import com.knighttodo.knighttodo.sql.SqlStatementCountingConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.support.TestPropertySourceUtils;
@@ -28,6 +30,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import static com.knighttodo.knighttodo.Constants.API_BASE_ROUTINES;
 import static com.knighttodo.knighttodo.Constants.API_BASE_URL_V1;
 import static com.knighttodo.knighttodo.TestConstants.*;
+import static com.knighttodo.knighttodo.sql.SqlStatementBudget.sqlBudget;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -36,6 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @ContextConfiguration(initializers = RoutineResourceIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(SqlStatementCountingConfiguration.class)
 @Testcontainers
 public class RoutineResourceIntegrationTest {
 
@@ -117,7 +121,9 @@ public class RoutineResourceIntegrationTest {
 
         mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_ROUTINES))
                 .andExpect(status().isFound())
-                .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(2));
+
+        sqlBudget().selects(2).verify();
     }
 
     @Test
@@ -127,6 +133,8 @@ public class RoutineResourceIntegrationTest {
         mockMvc.perform(get(buildGetRoutineByIdUrl(routine.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToId()).value(routine.getId().toString()));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -189,4 +197,19 @@ public class RoutineResourceIntegrationTest {
         assertThat(routineTodoRepository.count()).isEqualTo(0);
         assertThat(routineInstanceRepository.count()).isEqualTo(0);
     }
+
+    @Test
+    public void findAllRoutines_shouldLoadTodosOfWholePageInOneSelect_whenRoutinesHaveTodos() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Routine routine = routineRepository.save(RoutineFactory.routineInstance());
+            routineTodoRepository.save(RoutineTodoFactory.routineTodoWithRoutine(routine));
+            routineTodoRepository.save(RoutineTodoFactory.routineTodoWithRoutine(routine));
+        }
+
+        mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_ROUTINES))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath(buildJsonPathToContentLength()).value(20));
+
+        sqlBudget().selects(2).verify();
+    }
 }
@@ -10,6 +10,7 @@ import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoInstanc
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
+import com.knighttodo.knighttodo.sql.SqlStatementCountingConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,11 +19,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.support.TestPropertySourceUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.client.RestTemplate;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -30,17 +33,23 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static com.knighttodo.knighttodo.Constants.*;
 import static com.knighttodo.knighttodo.TestConstants.*;
+import static com.knighttodo.knighttodo.sql.SqlStatementBudget.sqlBudget;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ContextConfiguration(initializers = RoutineTodoInstanceResourceIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(SqlStatementCountingConfiguration.class)
 @Testcontainers
 public class RoutineTodoInstanceResourceIntegrationTest {
 
@@ -96,6 +105,8 @@ public class RoutineTodoInstanceResourceIntegrationTest {
         mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() + API_BASE_ROUTINES_TODO_INSTANCES))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -108,6 +119,8 @@ public class RoutineTodoInstanceResourceIntegrationTest {
                 API_BASE_ROUTINES_TODO_INSTANCES + "/" + savedRoutineTodoInstance.getId()))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToId()).value(savedRoutineTodoInstance.getId().toString()));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -119,6 +132,8 @@ public class RoutineTodoInstanceResourceIntegrationTest {
         mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() + API_BASE_ROUTINES_TODO_INSTANCES))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -132,9 +147,15 @@ public class RoutineTodoInstanceResourceIntegrationTest {
         when(restTemplate.postForEntity(anyString(), any(), eq(ExperienceResponse.class)))
                 .thenReturn(new ResponseEntity<>(experienceResponse, HttpStatus.OK));
 
-        mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() +
+        MvcResult mvcResult = mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() +
                 API_BASE_ROUTINES_TODO_INSTANCES + "/" + savedRoutineTodoInstance.getId() + BASE_READY)
                 .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        sqlBudget().updates(1).verify();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(buildJsonPathToRoutineId()).isNotEmpty())
                 .andExpect(jsonPath(buildJsonPathToExperience()).isNotEmpty())
@@ -143,6 +164,26 @@ public class RoutineTodoInstanceResourceIntegrationTest {
         assertThat(routineTodoInstanceRepository.findById(savedRoutineTodoInstance.getId()).get().isReady()).isEqualTo(true);
     }
 
+    @Test
+    public void updateIsReady_shouldNotRequestExperience_whenRoutineTodoInstanceIsAlreadyReady() throws Exception {
+        Routine routine = routineRepository.save(RoutineFactory.routineInstance());
+        RoutineInstance routineInstance = routineInstanceRepository.save(RoutineInstanceFactory.routineInstanceWithRoutine(routine));
+        RoutineTodoInstance savedRoutineTodoInstanceReadyTrue = routineTodoInstanceRepository.save(RoutineTodoInstanceFactory.
+                routineTodoInstanceWithRoutineReadyInstance(routineInstance));
+
+        MvcResult mvcResult = mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() +
+                API_BASE_ROUTINES_TODO_INSTANCES + "/" + savedRoutineTodoInstanceReadyTrue.getId() + BASE_READY)
+                .param(PARAM_READY, PARAMETER_TRUE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(buildJsonPathToReadyName()).value(true));
+
+        verify(restTemplate, never()).postForEntity(anyString(), any(), eq(ExperienceResponse.class));
+    }
+
     @Test
     public void updateIsReady_shouldReturnOk_shouldMakeIsReadyFalse_whenRoutineTodoIdIsCorrect() throws Exception {
         Routine routine = routineRepository.save(RoutineFactory.routineInstance());
@@ -154,9 +195,13 @@ public class RoutineTodoInstanceResourceIntegrationTest {
         when(restTemplate.postForEntity(anyString(), any(), eq(ExperienceResponse.class)))
                 .thenReturn(new ResponseEntity<>(experienceResponse, HttpStatus.OK));
 
-        mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() +
+        MvcResult mvcResult = mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES_INSTANCES + "/" + routineInstance.getId() +
                 API_BASE_ROUTINES_TODO_INSTANCES + "/" + savedRoutineTodoInstanceReadyTrue.getId() + BASE_READY)
                 .param(PARAM_READY, PARAMETER_FALSE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk());
 
         assertThat(routineTodoInstanceRepository.findById(savedRoutineTodoInstanceReadyTrue.getId()).get().isReady()).isEqualTo(false);
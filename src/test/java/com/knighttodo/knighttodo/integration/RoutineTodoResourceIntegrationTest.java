@@ -13,7 +13,9 @@ import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoReposit
 import com.knighttodo.knighttodo.gateway.privatedb.representation.Routine;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
 import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodo;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
 import com.knighttodo.knighttodo.rest.request.RoutineTodoRequestDto;
+import com.knighttodo.knighttodo.sql.SqlStatementCountingConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.support.TestPropertySourceUtils;
@@ -34,6 +37,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import static com.knighttodo.knighttodo.Constants.*;
 import static com.knighttodo.knighttodo.TestConstants.*;
+import static com.knighttodo.knighttodo.sql.SqlStatementBudget.sqlBudget;
 import static org.aspectj.bridge.MessageUtil.fail;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -44,6 +48,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @ContextConfiguration(initializers = RoutineTodoResourceIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(SqlStatementCountingConfiguration.class)
 @Testcontainers
 public class RoutineTodoResourceIntegrationTest {
 
@@ -67,6 +72,7 @@ public class RoutineTodoResourceIntegrationTest {
 
     @AfterEach
     public void tearDown() {
+        routineTodoInstanceRepository.deleteAll();
         routineInstanceRepository.deleteAll();
         routineTodoRepository.deleteAll();
         routineRepository.deleteAll();
@@ -171,6 +177,8 @@ public class RoutineTodoResourceIntegrationTest {
         mockMvc.perform(get(API_BASE_URL_V1 + API_BASE_ROUTINES + "/" + routine.getId() + API_BASE_TODOS))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -182,6 +190,8 @@ public class RoutineTodoResourceIntegrationTest {
         mockMvc.perform(get(buildGetRoutineTodoByIdUrl(routine.getId(), savedRoutineTodo.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToId()).value(routineTodo.getId().toString()));
+
+        sqlBudget().selects(1).verify();
     }
 
     @Test
@@ -202,6 +212,34 @@ public class RoutineTodoResourceIntegrationTest {
                 .isEqualTo(requestDto.getRoutineTodoName());
     }
 
+    @Test
+    public void updateRoutineTodo_shouldPropagateChangesToNotReadyInstancesOnly_whenRequestIsCorrect() throws Exception {
+        Routine routine = routineRepository.save(RoutineFactory.routineInstance());
+        RoutineTodo routineTodo = routineTodoRepository.save(RoutineTodoFactory.routineTodoWithRoutine(routine));
+        RoutineInstance routineInstance = routineInstanceRepository.save(RoutineInstanceFactory.routineInstanceWithRoutine(routine));
+        RoutineTodoInstance notReadyInstance = routineTodoInstanceRepository.save(RoutineTodoInstanceFactory
+                .routineTodoInstanceWithRoutineInstanceAndRoutineTodo(routineInstance, routineTodo));
+        RoutineTodoInstance readyInstance = RoutineTodoInstanceFactory
+                .routineTodoInstanceWithRoutineInstanceAndRoutineTodo(routineInstance, routineTodo);
+        readyInstance.setReady(true);
+        routineTodoInstanceRepository.save(readyInstance);
+        RoutineTodoRequestDto requestDto = RoutineTodoFactory.updateRoutineTodoRequestDto();
+
+        mockMvc.perform(put(API_BASE_URL_V1 + API_BASE_ROUTINES + "/" + routine.getId() + API_BASE_TODOS + "/" + routineTodo.getId())
+                .content(objectMapper.writeValueAsString(requestDto))
+                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk());
+
+        sqlBudget().selects(1).updates(2).verify();
+
+        RoutineTodoInstance propagatedInstance = routineTodoInstanceRepository.findById(notReadyInstance.getId()).get();
+        assertThat(propagatedInstance.getRoutineTodoName()).isEqualTo(requestDto.getRoutineTodoName());
+        assertThat(propagatedInstance.getHardness()).isEqualTo(requestDto.getHardness());
+        assertThat(propagatedInstance.getScariness()).isEqualTo(requestDto.getScariness());
+        assertThat(routineTodoInstanceRepository.findById(readyInstance.getId()).get().getRoutineTodoName())
+                .isEqualTo(RoutineTodoInstanceFactory.ROUTINE_TODO_INSTANCE_NAME);
+    }
+
     @Test
     public void updateRoutineTodo_shouldRespondWithBadRequestStatus_whenNameIsNull() throws Exception {
         Routine routine = routineRepository.save(RoutineFactory.routineInstance());
@@ -351,5 +389,7 @@ public class RoutineTodoResourceIntegrationTest {
         mockMvc.perform(get(buildGetRoutineTodosByDayIdUrl(routine.getId())))
                 .andExpect(status().isFound())
                 .andExpect(jsonPath(buildJsonPathToLength()).value(2));
+
+        sqlBudget().selects(1).verify();
     }
 }
@@ -0,0 +1,184 @@
+package com.knighttodo.knighttodo.integration;
+
+import com.knighttodo.knighttodo.factories.DayFactory;
+import com.knighttodo.knighttodo.factories.DayTodoFactory;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.DayRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.DayTodoRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.ExperienceOutboxEntryRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.Day;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.DayTodo;
+import com.sun.net.httpserver.HttpServer;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+import static com.knighttodo.knighttodo.Constants.BASE_BATCH;
+import static com.knighttodo.knighttodo.Constants.BASE_EXPERIENCE_URL;
+import static com.knighttodo.knighttodo.Constants.PARAM_READY;
+import static com.knighttodo.knighttodo.TestConstants.PARAMETER_TRUE;
+import static com.knighttodo.knighttodo.TestConstants.buildUpdateTodoReadyBaseUrl;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ContextConfiguration(initializers = TracingIntegrationTest.DockerPostgreDataSourceInitializer.class)
+@Import(TracingIntegrationTest.InMemoryTracingConfiguration.class)
+@Testcontainers
+public class TracingIntegrationTest {
+
+    private static final String INCOMING_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String INCOMING_TRACE_PARENT = "00-" + INCOMING_TRACE_ID + "-00f067aa0ba902b7-01";
+
+    private static final List<String> EXPERIENCE_TRACE_PARENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private DayTodoRepository dayTodoRepository;
+
+    @Autowired
+    private ExperienceOutboxEntryRepository experienceOutboxEntryRepository;
+
+    @AfterEach
+    public void tearDown() {
+        experienceOutboxEntryRepository.deleteAll();
+        dayTodoRepository.deleteAll();
+        dayRepository.deleteAll();
+        EXPERIENCE_TRACE_PARENTS.clear();
+        spanExporter.reset();
+    }
+
+    @Container
+    public static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:11.1");
+
+    private static final HttpServer experienceServer;
+
+    static {
+        postgresqlContainer.start();
+        experienceServer = startExperienceServerStub();
+    }
+
+    public static class DockerPostgreDataSourceInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+
+            TestPropertySourceUtils.addInlinedPropertiesToEnvironment(
+                    applicationContext,
+                    "spring.datasource.url=" + postgresqlContainer.getJdbcUrl(),
+                    "spring.datasource.username=" + postgresqlContainer.getUsername(),
+                    "spring.datasource.password=" + postgresqlContainer.getPassword(),
+                    "baseUrl.experience=http://localhost:" + experienceServer.getAddress().getPort(),
+                    "tracing.exporter=none"
+            );
+        }
+    }
+
+    @TestConfiguration
+    public static class InMemoryTracingConfiguration {
+
+        @Bean
+        public InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    private static HttpServer startExperienceServerStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext(API_BASE_URL + BASE_EXPERIENCE_URL, exchange -> {
+                if (exchange.getRequestURI().getPath().endsWith(BASE_BATCH)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                exchange.getRequestBody().readAllBytes();
+                EXPERIENCE_TRACE_PARENTS.add(exchange.getRequestHeaders().getFirst("traceparent"));
+                byte[] response = ("{\"experience\":" + DayTodoFactory.HARD_SCARY_EXPERIENCE + "}")
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Experience server stub can't be started", ex);
+        }
+    }
+
+    @Test
+    public void updateIsReady_shouldBeTracedFromResourceToExperienceService() throws Exception {
+        Day day = dayRepository.save(DayFactory.dayInstance());
+        DayTodo dayTodo = dayTodoRepository.save(DayTodoFactory.dayTodoWithDayInstance(day));
+        sdkTracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spanExporter.reset();
+
+        MvcResult mvcResult = mockMvc.perform(put(buildUpdateTodoReadyBaseUrl(day.getId(), dayTodo.getId()))
+                .param(PARAM_READY, PARAMETER_TRUE)
+                .header("traceparent", INCOMING_TRACE_PARENT))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+        sdkTracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(INCOMING_TRACE_ID));
+        assertThat(spans).filteredOn(span -> span.getKind() == SpanKind.SERVER)
+                .hasSize(1)
+                .allSatisfy(span -> assertThat(span.getName()).startsWith("PUT ").endsWith("/ready"));
+        assertThat(spans).extracting(SpanData::getName)
+                .contains("DayTodoResource.updateIsReady", "DayTodoServiceImpl.updateIsReady",
+                        "ExperienceClient.calculateExperience", "POST " + API_BASE_URL + BASE_EXPERIENCE_URL);
+        assertThat(spans).filteredOn(span -> span.getName().startsWith("DayTodoRepository."))
+                .isNotEmpty()
+                .allSatisfy(span -> assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT));
+
+        assertThat(EXPERIENCE_TRACE_PARENTS).hasSize(1)
+                .allSatisfy(traceParent -> assertThat(traceParent).startsWith("00-" + INCOMING_TRACE_ID + "-"));
+    }
+}
@@ -0,0 +1,300 @@
+package com.knighttodo.knighttodo.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knighttodo.knighttodo.factories.RoutineTodoInstanceFactory;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineInstanceRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.repository.RoutineTodoInstanceRepository;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineInstance;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.RoutineTodoInstance;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Hardness;
+import com.knighttodo.knighttodo.gateway.privatedb.representation.enums.Scariness;
+import com.knighttodo.knighttodo.load.LoadRecorder.EndpointReport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_BULK;
+import static com.knighttodo.knighttodo.Constants.API_BASE_DAYS;
+import static com.knighttodo.knighttodo.Constants.API_BASE_ROUTINES;
+import static com.knighttodo.knighttodo.Constants.API_BASE_ROUTINES_INSTANCES;
+import static com.knighttodo.knighttodo.Constants.API_BASE_ROUTINES_TODO_INSTANCES;
+import static com.knighttodo.knighttodo.Constants.API_BASE_TODOS;
+import static com.knighttodo.knighttodo.Constants.BASE_READY;
+import static com.knighttodo.knighttodo.Constants.PARAM_READY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the API with {@code load.users} virtual users for {@code load.duration} after a {@code load.warmup}, against
+ * a Testcontainers Postgres and a {@link StubExperienceService} answering after {@code load.stub.latency} (plus up to
+ * {@code load.stub.jitter}) and failing at {@code load.stub.error-rate}. Each user loops over the day scenario (create
+ * a day, bulk add {@code load.bulk-size} todos, mark each ready) and the routine scenario (create a routine with
+ * todos, start an instance, mark its todo instances ready).
+ *
+ * <p>Throughput, p50/p95/p99 latency and error rate per endpoint are logged and written to
+ * {@code target/load-test/report.json}. The run fails when an endpoint regresses against {@code load.baseline} by more
+ * than {@code load.tolerance}; {@code -Dload.update-baseline=true} records the run as the new baseline instead.
+ * Run with {@code mvn test -Pload-test}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ContextConfiguration(initializers = ApiLoadTest.LoadTestInitializer.class)
+@Testcontainers
+public class ApiLoadTest {
+
+    private static final String CREATE_DAY = "POST /days";
+    private static final String BULK_ADD_DAY_TODOS = "POST /days/{dayId}/todos/bulk";
+    private static final String TOGGLE_DAY_TODO = "PUT /days/{dayId}/todos/{dayTodoId}/ready";
+    private static final String CREATE_ROUTINE = "POST /routines";
+    private static final String ADD_ROUTINE_TODO = "POST /routines/{routineId}/todos";
+    private static final String CREATE_ROUTINE_INSTANCE = "POST /routines/{routineId}/routineInstances";
+    private static final String FIND_ROUTINE_INSTANCE =
+            "GET /routines/{routineId}/routineInstances/{routineInstanceId}";
+    private static final String TOGGLE_ROUTINE_TODO_INSTANCE =
+            "PUT /routineInstances/{routineInstanceId}/routineTodoInstances/{routineTodoInstanceId}/ready";
+
+    private static final int USERS = Integer.getInteger("load.users", 16);
+    private static final Duration WARMUP = duration("load.warmup", "15s");
+    private static final Duration DURATION = duration("load.duration", "60s");
+    private static final int BULK_SIZE = Integer.getInteger("load.bulk-size", 20);
+    private static final int ROUTINE_TODOS = Integer.getInteger("load.routine-todos", 5);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+    private static final Path BASELINE = Path.of(System.getProperty("load.baseline",
+            "src/test/resources/load/baseline.json"));
+    private static final Path REPORT = Path.of("target", "load-test", "report.json");
+
+    @Container
+    public static PostgreSQLContainer<?> postgresqlContainer = new PostgreSQLContainer<>("postgres:11.1");
+
+    private static final StubExperienceService experienceService = new StubExperienceService(
+            duration("load.stub.latency", "20ms"), duration("load.stub.jitter", "10ms"),
+            Double.parseDouble(System.getProperty("load.stub.error-rate", "0.0")));
+
+    static {
+        postgresqlContainer.start();
+    }
+
+    public static class LoadTestInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+        @Override
+        public void initialize(ConfigurableApplicationContext applicationContext) {
+            TestPropertySourceUtils.addInlinedPropertiesToEnvironment(
+                    applicationContext,
+                    "spring.datasource.url=" + postgresqlContainer.getJdbcUrl(),
+                    "spring.datasource.username=" + postgresqlContainer.getUsername(),
+                    "spring.datasource.password=" + postgresqlContainer.getPassword(),
+                    "spring.jpa.show-sql=false",
+                    "baseUrl.experience=" + experienceService.url()
+            );
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoutineInstanceRepository routineInstanceRepository;
+
+    @Autowired
+    private RoutineTodoInstanceRepository routineTodoInstanceRepository;
+
+    private final LoadRecorder recorder = new LoadRecorder();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(USERS))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private volatile boolean running = true;
+
+    @AfterAll
+    public static void tearDown() {
+        experienceService.close();
+    }
+
+    @Test
+    public void api_shouldNotRegressAgainstBaseline() throws Exception {
+        ExecutorService users = Executors.newFixedThreadPool(USERS);
+        IntStream.range(0, USERS).forEach(user -> users.submit(this::runUser));
+
+        Thread.sleep(WARMUP.toMillis());
+        recorder.reset();
+        long start = System.nanoTime();
+        Thread.sleep(DURATION.toMillis());
+        List<EndpointReport> reports = recorder.report(Duration.ofNanos(System.nanoTime() - start));
+        running = false;
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.MINUTES);
+
+        log.info("{} users for {} against a stub answering in {} with {}% errors ({} calls, {} failed):\n{}", USERS,
+                DURATION, System.getProperty("load.stub.latency", "20ms"),
+                Double.parseDouble(System.getProperty("load.stub.error-rate", "0.0")) * 100,
+                experienceService.calls(), experienceService.failures(),
+                reports.stream().map(EndpointReport::toString).collect(Collectors.joining("\n")));
+        LoadBaseline.write(REPORT, reports);
+
+        assertThat(reports).extracting(EndpointReport::getEndpoint).contains(CREATE_DAY, BULK_ADD_DAY_TODOS,
+                TOGGLE_DAY_TODO, CREATE_ROUTINE, CREATE_ROUTINE_INSTANCE, TOGGLE_ROUTINE_TODO_INSTANCE);
+
+        if (Boolean.getBoolean("load.update-baseline")) {
+            LoadBaseline.write(BASELINE, reports);
+            log.info("Recorded {} as the new baseline", BASELINE);
+            return;
+        }
+        Optional<List<EndpointReport>> baseline = LoadBaseline.read(BASELINE);
+        if (baseline.isEmpty()) {
+            log.warn("No baseline at {}, rerun with -Dload.update-baseline=true to record one", BASELINE);
+            return;
+        }
+        assertThat(LoadBaseline.regressions(baseline.get(), reports, TOLERANCE))
+                .as("Endpoints regressed by more than %.0f%% against %s", TOLERANCE * 100, BASELINE)
+                .isEmpty();
+    }
+
+    private void runUser() {
+        while (running) {
+            try {
+                runDayScenario();
+                runRoutineScenario();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                log.debug("Scenario aborted", ex);
+            }
+        }
+    }
+
+    private void runDayScenario() throws Exception {
+        Optional<JsonNode> day = call(CREATE_DAY, post("/days", Map.of("dayName", "Load day")));
+        if (day.isEmpty()) {
+            return;
+        }
+        String dayPath = API_BASE_DAYS + "/" + day.get().get("id").asText() + API_BASE_TODOS;
+
+        List<Map<String, Object>> todos = IntStream.range(0, BULK_SIZE)
+                .mapToObj(i -> Map.<String, Object>of("dayTodoName", "Load todo " + i,
+                        "scariness", Scariness.values()[i % Scariness.values().length],
+                        "hardness", Hardness.values()[i % Hardness.values().length]))
+                .collect(Collectors.toList());
+        Optional<JsonNode> savedTodos = call(BULK_ADD_DAY_TODOS, post(dayPath + API_BASE_BULK, todos));
+        if (savedTodos.isEmpty()) {
+            return;
+        }
+        for (JsonNode todo : savedTodos.get()) {
+            call(TOGGLE_DAY_TODO, put(dayPath + "/" + todo.get("id").asText() + BASE_READY + "?" + PARAM_READY
+                    + "=true"));
+        }
+    }
+
+    private void runRoutineScenario() throws Exception {
+        Optional<JsonNode> routine = call(CREATE_ROUTINE, post(API_BASE_ROUTINES, Map.of("name", "Load routine",
+                "hardness", Hardness.HARD, "scariness", Scariness.SCARY, "routineInstanceIds", List.of())));
+        if (routine.isEmpty()) {
+            return;
+        }
+        String routinePath = API_BASE_ROUTINES + "/" + routine.get().get("id").asText();
+        for (int i = 0; i < ROUTINE_TODOS; i++) {
+            call(ADD_ROUTINE_TODO, post(routinePath + API_BASE_TODOS, Map.of("routineTodoName",
+                    "Load routine todo " + i, "hardness", Hardness.HARD, "scariness", Scariness.SCARY)));
+        }
+
+        Optional<JsonNode> routineInstance = call(CREATE_ROUTINE_INSTANCE, post(routinePath
+                + API_BASE_ROUTINES_INSTANCES, Map.of("name", "Load routine instance", "hardness", Hardness.HARD,
+                "scariness", Scariness.SCARY, "routineTodoInstancesIds", List.of())));
+        if (routineInstance.isEmpty()) {
+            return;
+        }
+        UUID routineInstanceId = UUID.fromString(routineInstance.get().get("id").asText());
+        call(FIND_ROUTINE_INSTANCE, get(routinePath + API_BASE_ROUTINES_INSTANCES + "/" + routineInstanceId));
+
+        // The API has no endpoint creating routine todo instances yet, so they are seeded straight into the database.
+        for (UUID routineTodoInstanceId : seedRoutineTodoInstances(routineInstanceId)) {
+            call(TOGGLE_ROUTINE_TODO_INSTANCE, put(API_BASE_ROUTINES_INSTANCES + "/" + routineInstanceId
+                    + API_BASE_ROUTINES_TODO_INSTANCES + "/" + routineTodoInstanceId + BASE_READY + "?" + PARAM_READY
+                    + "=true"));
+        }
+    }
+
+    private List<UUID> seedRoutineTodoInstances(UUID routineInstanceId) {
+        RoutineInstance routineInstance = routineInstanceRepository.getOne(routineInstanceId);
+        List<RoutineTodoInstance> routineTodoInstances = new ArrayList<>();
+        for (int i = 0; i < ROUTINE_TODOS; i++) {
+            routineTodoInstances.add(
+                    RoutineTodoInstanceFactory.routineTodoInstanceWithRoutineInstance(routineInstance));
+        }
+        return routineTodoInstanceRepository.saveAll(routineTodoInstances).stream()
+                .map(RoutineTodoInstance::getId)
+                .collect(Collectors.toList());
+    }
+
+    private Optional<JsonNode> call(String endpoint, HttpRequest request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean failed = response.statusCode() >= 400;
+            recorder.record(endpoint, System.nanoTime() - start, failed);
+            return failed || response.body().length == 0 ? Optional.empty()
+                    : Optional.of(objectMapper.readTree(response.body()));
+        } catch (IOException ex) {
+            recorder.record(endpoint, System.nanoTime() - start, true);
+            return Optional.empty();
+        }
+    }
+
+    private HttpRequest post(String path, Object body) throws Exception {
+        return request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path) {
+        return request(path).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1" + path))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+}
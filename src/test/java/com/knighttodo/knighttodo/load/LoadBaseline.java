@@ -0,0 +1,73 @@
+package com.knighttodo.knighttodo.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.knighttodo.knighttodo.load.LoadRecorder.EndpointReport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes load test reports and compares a run with a recorded baseline. An endpoint regresses when its
+ * throughput drops or its p95 or p99 grow by more than the tolerance, or when its error rate grows by more than one
+ * percentage point. Endpoints missing from the baseline never fail the run.
+ */
+public class LoadBaseline {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<List<EndpointReport>> REPORTS = new TypeReference<>() {};
+    private static final double MAX_ERROR_RATE_INCREASE = 0.01;
+
+    private LoadBaseline() {
+    }
+
+    public static Optional<List<EndpointReport>> read(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(OBJECT_MAPPER.readValue(path.toFile(), REPORTS));
+    }
+
+    public static void write(Path path, List<EndpointReport> reports) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(path.toFile(), reports);
+    }
+
+    public static List<String> regressions(List<EndpointReport> baseline, List<EndpointReport> current,
+                                           double tolerance) {
+        Map<String, EndpointReport> baselineByEndpoint = baseline.stream()
+                .collect(Collectors.toMap(EndpointReport::getEndpoint, Function.identity()));
+        List<String> regressions = new ArrayList<>();
+        for (EndpointReport report : current) {
+            EndpointReport expected = baselineByEndpoint.get(report.getEndpoint());
+            if (expected == null) {
+                continue;
+            }
+            if (report.getThroughput() < expected.getThroughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f req/s, baseline %.1f req/s", report.getEndpoint(),
+                        report.getThroughput(), expected.getThroughput()));
+            }
+            if (report.getP95Millis() > expected.getP95Millis() * (1 + tolerance)) {
+                regressions.add(String.format("%s p95 %.2f ms, baseline %.2f ms", report.getEndpoint(),
+                        report.getP95Millis(), expected.getP95Millis()));
+            }
+            if (report.getP99Millis() > expected.getP99Millis() * (1 + tolerance)) {
+                regressions.add(String.format("%s p99 %.2f ms, baseline %.2f ms", report.getEndpoint(),
+                        report.getP99Millis(), expected.getP99Millis()));
+            }
+            if (report.getErrorRate() > expected.getErrorRate() + MAX_ERROR_RATE_INCREASE) {
+                regressions.add(String.format("%s error rate %.2f%%, baseline %.2f%%", report.getEndpoint(),
+                        report.getErrorRate() * 100, expected.getErrorRate() * 100));
+            }
+        }
+        return regressions;
+    }
+}
@@ -0,0 +1,86 @@
+package com.knighttodo.knighttodo.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Latency histogram and error count per endpoint. Endpoints are named by method and path template, e.g.
+ * {@code PUT /days/{dayId}/todos/{dayTodoId}/ready}, so all calls of one kind land in the same bucket.
+ */
+public class LoadRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean failed) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latencies.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+        if (failed) {
+            stats.errors.increment();
+        }
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    public List<EndpointReport> report(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        return endpoints.entrySet().stream().map(entry -> {
+            Histogram histogram = entry.getValue().latencies.getIntervalHistogram();
+            long requests = histogram.getTotalCount();
+            return new EndpointReport(entry.getKey(), requests, requests / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    requests == 0 ? 0 : entry.getValue().errors.doubleValue() / requests);
+        }).collect(Collectors.toList());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static class Endpoint {
+
+        private final Recorder latencies = new Recorder(MAX_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointReport {
+
+        private String endpoint;
+
+        private long requests;
+
+        private double throughput;
+
+        private double p50Millis;
+
+        private double p95Millis;
+
+        private double p99Millis;
+
+        private double errorRate;
+
+        @Override
+        public String toString() {
+            return String.format("%-62s %8d req %9.1f req/s  p50 %8.2f ms  p95 %8.2f ms  p99 %8.2f ms  errors %6.2f%%",
+                    endpoint, requests, throughput, p50Millis, p95Millis, p99Millis, errorRate * 100);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.knighttodo.knighttodo.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knighttodo.knighttodo.gateway.experience.request.ExperienceRequest;
+import com.knighttodo.knighttodo.gateway.experience.response.ExperienceResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static com.knighttodo.knighttodo.Constants.API_BASE_URL;
+import static com.knighttodo.knighttodo.Constants.BASE_BATCH;
+import static com.knighttodo.knighttodo.Constants.BASE_EXPERIENCE_URL;
+
+/**
+ * In-process stand-in for the experience service. Every call waits {@code latency} plus up to {@code jitter} and
+ * fails with 503 at {@code errorRate}. Answers single and batch calculations; the matrix endpoint is left out, so the
+ * application keeps calling remotely.
+ */
+public class StubExperienceService implements AutoCloseable {
+
+    private static final int EXPERIENCE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(64);
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public StubExperienceService(Duration latency, Duration jitter, double errorRate) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        server.createContext(API_BASE_URL + BASE_EXPERIENCE_URL, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            calls.incrementAndGet();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            pause();
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                failures.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            Object response;
+            if (path.endsWith(BASE_BATCH)) {
+                ExperienceRequest[] requests = objectMapper.readValue(requestBody, ExperienceRequest[].class);
+                response = Arrays.stream(requests).map(this::calculate).collect(Collectors.toList());
+            } else if (path.equals(API_BASE_URL + BASE_EXPERIENCE_URL)) {
+                response = calculate(objectMapper.readValue(requestBody, ExperienceRequest.class));
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            respond(exchange, objectMapper.writeValueAsBytes(response));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ExperienceResponse calculate(ExperienceRequest request) {
+        return ExperienceResponse.builder().todoId(request.getTodoId()).experience(EXPERIENCE).build();
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private void pause() {
+        long jitterNanos = jitter.isZero() ? 0 : ThreadLocalRandom.current().nextLong(jitter.toNanos());
+        long pauseNanos = latency.toNanos() + jitterNanos;
+        if (pauseNanos > 0) {
+            try {
+                Thread.sleep(pauseNanos / 1_000_000, (int) (pauseNanos % 1_000_000));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
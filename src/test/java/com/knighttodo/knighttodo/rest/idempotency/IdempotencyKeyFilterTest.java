@@ -0,0 +1,178 @@
+package com.knighttodo.knighttodo.rest.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.knighttodo.knighttodo.Constants.HEADER_IDEMPOTENCY_KEY;
+import static com.knighttodo.knighttodo.Constants.HEADER_IDEMPOTENT_REPLAYED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class IdempotencyKeyFilterTest {
+
+    private static final String TODOS_URL = "/api/v1/todos";
+    private static final String READY_URL = "/api/v1/todos/ready";
+    private static final String FAILING_URL = "/api/v1/todos/failing";
+
+    private TodoController todoController;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        todoController = new TodoController();
+        IdempotencyKeyFilter idempotencyKeyFilter = new IdempotencyKeyFilter(Duration.ofHours(1),
+                Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+        mockMvc = MockMvcBuilders.standaloneSetup(todoController).addFilters(idempotencyKeyFilter).build();
+    }
+
+    @Test
+    public void write_shouldReplayStoredResponse_whenKeyIsRepeated() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(post(TODOS_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(content().string("todo-1"));
+        mockMvc.perform(post(TODOS_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HEADER_IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(content().string("todo-1"));
+
+        assertThat(todoController.creations).hasValue(1);
+    }
+
+    @Test
+    public void write_shouldRunAgain_whenKeyDiffersOrIsMissing() throws Exception {
+        mockMvc.perform(post(TODOS_URL).header(HEADER_IDEMPOTENCY_KEY, UUID.randomUUID().toString()));
+        mockMvc.perform(post(TODOS_URL).header(HEADER_IDEMPOTENCY_KEY, UUID.randomUUID().toString()));
+        mockMvc.perform(post(TODOS_URL));
+        mockMvc.perform(post(TODOS_URL))
+                .andExpect(header().doesNotExist(HEADER_IDEMPOTENT_REPLAYED))
+                .andExpect(content().string("todo-4"));
+
+        assertThat(todoController.creations).hasValue(4);
+    }
+
+    @Test
+    public void asyncWrite_shouldReplayStoredResponse_whenKeyIsRepeated() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        MvcResult mvcResult = mockMvc.perform(put(READY_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("ready-1"));
+        mockMvc.perform(put(READY_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(content().string("ready-1"));
+
+        assertThat(todoController.toggles).hasValue(1);
+    }
+
+    @Test
+    public void write_shouldRespondWithUnprocessableEntity_whenKeyIsReusedWithDifferentQuery() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        MvcResult mvcResult = mockMvc.perform(put(READY_URL + "?ready=true")
+                .header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("ready-1"));
+        mockMvc.perform(put(READY_URL + "?ready=false").header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(HEADER_IDEMPOTENT_REPLAYED));
+
+        assertThat(todoController.toggles).hasValue(1);
+    }
+
+    @Test
+    public void write_shouldRespondWithUnprocessableEntity_whenKeyIsReusedWithDifferentBody() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(post(TODOS_URL).content("{\"name\":\"Write tests\"}")
+                .contentType(MediaType.APPLICATION_JSON).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(content().string("todo-1"));
+        mockMvc.perform(post(TODOS_URL).content("{\"name\":\"Fix tests\"}")
+                .contentType(MediaType.APPLICATION_JSON).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(header().doesNotExist(HEADER_IDEMPOTENT_REPLAYED));
+        mockMvc.perform(post(TODOS_URL).content("{\"name\":\"Write tests\"}")
+                .contentType(MediaType.APPLICATION_JSON).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HEADER_IDEMPOTENT_REPLAYED, "true"))
+                .andExpect(content().string("todo-1"));
+
+        assertThat(todoController.creations).hasValue(1);
+    }
+
+    @Test
+    public void write_shouldNotStoreServerErrors() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        mockMvc.perform(post(FAILING_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post(FAILING_URL).header(HEADER_IDEMPOTENCY_KEY, idempotencyKey))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().doesNotExist(HEADER_IDEMPOTENT_REPLAYED));
+
+        assertThat(todoController.failures).hasValue(2);
+    }
+
+    @Test
+    public void write_shouldRespondWithBadRequest_whenKeyIsBlank() throws Exception {
+        mockMvc.perform(post(TODOS_URL).header(HEADER_IDEMPOTENCY_KEY, " "))
+                .andExpect(status().isBadRequest());
+
+        assertThat(todoController.creations).hasValue(0);
+    }
+
+    @RestController
+    private static class TodoController {
+
+        private final AtomicInteger creations = new AtomicInteger();
+        private final AtomicInteger toggles = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @PostMapping(TODOS_URL)
+        public ResponseEntity<String> create() {
+            return ResponseEntity.status(HttpStatus.CREATED).body("todo-" + creations.incrementAndGet());
+        }
+
+        @PutMapping(READY_URL)
+        public CompletableFuture<String> toggle(@RequestParam(required = false) String ready) {
+            return CompletableFuture.supplyAsync(() -> "ready-" + toggles.incrementAndGet());
+        }
+
+        @PostMapping(FAILING_URL)
+        public ResponseEntity<String> fail() {
+            failures.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
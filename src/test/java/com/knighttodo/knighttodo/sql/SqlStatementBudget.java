@@ -0,0 +1,72 @@
+package com.knighttodo.knighttodo.sql;
+
+import com.knighttodo.knighttodo.sql.SqlStatementCounter.SqlStatementType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Upper bounds on the statements issued by the last MockMvc request. Every type starts with a budget of zero, so
+ * {@code sqlBudget().selects(2).verify()} also asserts that nothing was inserted, updated or deleted.
+ */
+public class SqlStatementBudget {
+
+    private final Map<SqlStatementType, Integer> budget = new EnumMap<>(SqlStatementType.class);
+
+    private SqlStatementBudget() {
+        budget.put(SqlStatementType.SELECT, 0);
+        budget.put(SqlStatementType.INSERT, 0);
+        budget.put(SqlStatementType.UPDATE, 0);
+        budget.put(SqlStatementType.DELETE, 0);
+    }
+
+    public static SqlStatementBudget sqlBudget() {
+        return new SqlStatementBudget();
+    }
+
+    public SqlStatementBudget selects(int max) {
+        budget.put(SqlStatementType.SELECT, max);
+        return this;
+    }
+
+    public SqlStatementBudget inserts(int max) {
+        budget.put(SqlStatementType.INSERT, max);
+        return this;
+    }
+
+    public SqlStatementBudget updates(int max) {
+        budget.put(SqlStatementType.UPDATE, max);
+        return this;
+    }
+
+    public SqlStatementBudget deletes(int max) {
+        budget.put(SqlStatementType.DELETE, max);
+        return this;
+    }
+
+    public void verify() {
+        List<String> statements = SqlStatementCounter.statements();
+        StringBuilder diff = new StringBuilder();
+        boolean exceeded = false;
+
+        for (Map.Entry<SqlStatementType, Integer> entry : budget.entrySet()) {
+            long actual = statements.stream().filter(sql -> SqlStatementType.of(sql) == entry.getKey()).count();
+            boolean overBudget = actual > entry.getValue();
+            exceeded |= overBudget;
+            String type = entry.getKey().name().toLowerCase(Locale.ROOT);
+            diff.append(String.format("  %-6s budget %d, actual %d%s%n", type, entry.getValue(), actual,
+                    overBudget ? "  <-- +" + (actual - entry.getValue()) : ""));
+        }
+
+        if (exceeded) {
+            StringBuilder message = new StringBuilder("SQL statement budget exceeded:\n").append(diff)
+                    .append("Recorded statements:\n");
+            for (int i = 0; i < statements.size(); i++) {
+                message.append(String.format("  %d. %s%n", i + 1, statements.get(i)));
+            }
+            throw new AssertionError(message.toString());
+        }
+    }
+}
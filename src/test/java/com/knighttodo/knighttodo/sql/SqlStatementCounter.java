@@ -0,0 +1,61 @@
+package com.knighttodo.knighttodo.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Records every statement Hibernate prepares. Registered through
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} in the test properties and reset at
+ * the start of each MockMvc request by {@link SqlStatementCountingConfiguration}. Only statements issued by the thread
+ * that reset the counter are recorded, so background work such as the outbox dispatcher doesn't leak into budgets.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+    private static volatile Thread recordingThread;
+
+    @Override
+    public String inspect(String sql) {
+        if (Thread.currentThread() == recordingThread) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        recordingThread = Thread.currentThread();
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        synchronized (STATEMENTS) {
+            return new ArrayList<>(STATEMENTS);
+        }
+    }
+
+    public enum SqlStatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        public static SqlStatementType of(String sql) {
+            String statement = sql.trim().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("with")) {
+                return SELECT;
+            }
+            if (statement.startsWith("insert")) {
+                return INSERT;
+            }
+            if (statement.startsWith("update")) {
+                return UPDATE;
+            }
+            if (statement.startsWith("delete")) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+    }
+}
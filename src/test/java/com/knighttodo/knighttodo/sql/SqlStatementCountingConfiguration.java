@@ -0,0 +1,20 @@
+package com.knighttodo.knighttodo.sql;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.servlet.Filter;
+
+@TestConfiguration
+public class SqlStatementCountingConfiguration {
+
+    @Bean
+    public MockMvcBuilderCustomizer sqlStatementCountingCustomizer() {
+        Filter resetFilter = (request, response, chain) -> {
+            SqlStatementCounter.reset();
+            chain.doFilter(request, response);
+        };
+        return builder -> builder.addFilters(resetFilter);
+    }
+}
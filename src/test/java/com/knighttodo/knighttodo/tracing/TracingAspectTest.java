@@ -0,0 +1,70 @@
+package com.knighttodo.knighttodo.tracing;
+
+import com.knighttodo.knighttodo.domain.DayVO;
+import com.knighttodo.knighttodo.gateway.DayGateway;
+import com.knighttodo.knighttodo.service.DayService;
+import com.knighttodo.knighttodo.service.impl.DayServiceImpl;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TracingAspectTest {
+
+    private InMemorySpanExporter spanExporter;
+    private Tracer tracer;
+    private DayService dayService;
+
+    @BeforeEach
+    public void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracer = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build()
+                .get("test");
+
+        DayGateway dayGateway = mock(DayGateway.class);
+        when(dayGateway.findById(any())).thenReturn(Optional.of(new DayVO()));
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new DayServiceImpl(dayGateway));
+        proxyFactory.addAspect(new TracingAspect(tracer));
+        dayService = proxyFactory.getProxy();
+    }
+
+    @Test
+    public void serviceCall_shouldBeTracedAsChildOfCurrentSpan() {
+        Span parent = tracer.spanBuilder("GET /api/v1/days/{dayId}").startSpan();
+
+        try (Scope scope = parent.makeCurrent()) {
+            dayService.findById(UUID.randomUUID());
+        } finally {
+            parent.end();
+        }
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(2);
+        assertThat(spans.get(0).getName()).isEqualTo("DayServiceImpl.findById");
+        assertThat(spans.get(0).getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+    }
+
+    @Test
+    public void serviceCall_shouldNotStartTrace_whenNoSpanIsCurrent() {
+        dayService.findById(UUID.randomUUID());
+
+        assertThat(spanExporter.getFinishedSpanItems()).isEmpty();
+    }
+}
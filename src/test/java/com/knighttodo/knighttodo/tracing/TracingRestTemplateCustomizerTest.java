@@ -0,0 +1,98 @@
+package com.knighttodo.knighttodo.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class TracingRestTemplateCustomizerTest {
+
+    private static final String EXPERIENCE_URL = "http://localhost:6070/api/experience";
+
+    private InMemorySpanExporter spanExporter;
+    private Tracer tracer;
+    private RestTemplate restTemplate;
+    private MockRestServiceServer experienceServer;
+
+    @BeforeEach
+    public void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        tracer = openTelemetry.getTracer("test");
+
+        restTemplate = new RestTemplate();
+        new TracingRestTemplateCustomizer(openTelemetry, tracer).customize(restTemplate);
+        experienceServer = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    public void call_shouldBeTracedAsChildOfCurrentSpan_andPropagateTraceContext() {
+        Span parent = tracer.spanBuilder("DayTodoResource.updateIsReady").startSpan();
+        String traceParentPrefix = "00-" + parent.getSpanContext().getTraceId() + "-";
+        experienceServer.expect(requestTo(EXPERIENCE_URL))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(request -> assertThat(request.getHeaders().getFirst("traceparent"))
+                        .startsWith(traceParentPrefix))
+                .andRespond(withSuccess());
+
+        try (Scope scope = parent.makeCurrent()) {
+            restTemplate.postForEntity(EXPERIENCE_URL, "{}", String.class);
+        } finally {
+            parent.end();
+        }
+
+        experienceServer.verify();
+        SpanData clientSpan = spanExporter.getFinishedSpanItems().get(0);
+        assertThat(clientSpan.getName()).isEqualTo("POST /api/experience");
+        assertThat(clientSpan.getKind()).isEqualTo(SpanKind.CLIENT);
+        assertThat(clientSpan.getParentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(clientSpan.getAttributes().get(SemanticAttributes.HTTP_STATUS_CODE)).isEqualTo(200L);
+    }
+
+    @Test
+    public void call_shouldMarkSpanAsFailed_whenServiceAnswersWithError() {
+        experienceServer.expect(requestTo(EXPERIENCE_URL))
+                .andExpect(header("traceparent", startsWith("00-")))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThatThrownBy(() -> restTemplate.postForEntity(EXPERIENCE_URL, "{}", String.class))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertThat(spans).hasSize(1);
+        assertThat(spans.get(0).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(spans.get(0).getAttributes().get(SemanticAttributes.HTTP_STATUS_CODE)).isEqualTo(503L);
+    }
+}